@@ -1,12 +1,16 @@
 package com.project.trysketch.controller;
 
 import com.project.trysketch.dto.request.GameFlowRequestDto;
+import com.project.trysketch.global.game.RoomEventLoop;
 import com.project.trysketch.service.GameService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.web.bind.annotation.*;
-import java.io.IOException;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
 
 // 1. 기능    : 게임 컨트롤러
 // 2. 작성자  : 김재영, 황미경
@@ -15,6 +19,7 @@ import java.io.IOException;
 @RestController
 public class GameController {
     private final GameService gameService;
+    private final RoomEventLoop roomEventLoop;
     private final String word = "word";
     private final String image = "image";
     private final String next = "next";
@@ -25,21 +30,23 @@ public class GameController {
     // MessageMapping 을 통해 webSocket 로 들어오는 메시지를 발신 처리한다.
     // 이때 클라이언트에서는 /app/game/** 로 요청하게 되고 이것을 controller 가 받아서 처리한다.
     // 처리가 완료되면 /topic/game/room/{roomId} 로 메시지가 전송된다.
+    // 방의 상태를 바꾸는 요청은 RoomEventLoop 를 통해 방 단위로 순서대로 실행된다.
+    // principal 은 CONNECT 때 검증된 게이머 정보 (token 헤더 없이 연결했다면 null 이고 메시지의 token 으로 검증)
 
     // 1. 게임시작
     @MessageMapping("/game/start")
-    public void startGame(GameFlowRequestDto requestDto) {
+    public void startGame(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - startGame 실행");
         log.info(">>> 게임이 시작되었습니다 - 게임 방 번호 : {},", requestDto.getRoomId());
-        gameService.startGame(requestDto);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.startGame(requestDto, principal));
     }
 
     // 2. 방에 입장시(생성 포함) 타임리미트, 난이도 전달
     @MessageMapping("/game/gameroom-data")
-    public void getGameMode(GameFlowRequestDto requestDto) {
+    public void getGameMode(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - getGameMode 실행");
         log.info(">>> 게임에 입장 - 게임 방 번호 : {},", requestDto.getRoomId());
-        gameService.getGameMode(requestDto);
+        gameService.getGameMode(requestDto, principal);
     }
 
     // 3. 최초 랜덤 제시어 하나 가져오기
@@ -48,37 +55,37 @@ public class GameController {
         log.info(">>>>>>>>>>>> GameController - getRandomKeyword 실행");
         log.info(">>>>>> {} : 게임 방 번호", requestDto.getRoomId());
         log.info(">>>>>> {} : 내가 누구냐",requestDto.getToken());
-        gameService.getInGameData(requestDto);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.getInGameData(requestDto));
     }
 
     // 4. 난이도 조절 버튼
     @MessageMapping("/game/difficulty")
-    public void changeDifficulty(GameFlowRequestDto requestDto) {
+    public void changeDifficulty(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - difficulty 실행");
-        gameService.changeDifficulty(requestDto);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.changeDifficulty(requestDto, principal));
     }
 
     // 5. 시간 조절 버튼 - 30초 증가
     @MessageMapping("/game/increase-time")
-    public void increaseRoundTime(GameFlowRequestDto requestDto) {
+    public void increaseRoundTime(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - increase-time 실행");
-        gameService.changeTimeLimit(requestDto, increase);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.changeTimeLimit(requestDto, increase, principal));
     }
 
     // 6. 시간 조절 버튼 - 30초 감소
     @MessageMapping("/game/decrease-time")
-    public void decreaseRoundTime(GameFlowRequestDto requestDto) {
+    public void decreaseRoundTime(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - decrease-time 실행");
-        gameService.changeTimeLimit(requestDto, decrease);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.changeTimeLimit(requestDto, decrease, principal));
     }
 
     // 7. 제출 여부 확인하고 DB 저장
     @MessageMapping("/game/toggle-ready")
-    public void getToggleSubmit(GameFlowRequestDto requestDto) throws IOException {
+    public void getToggleSubmit(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - getToggleSubmit 실행");
         log.info(">>>>>> {} : 라운드 시작", requestDto.getRound());
         log.info(">>>>>> {} : 게임 방 번호", requestDto.getRoomId());
-        gameService.getToggleSubmit(requestDto);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.getToggleSubmit(requestDto, principal));
     }
 
     // 8. 단어 제출하는 라운드 끝났을 때
@@ -89,7 +96,7 @@ public class GameController {
         log.info(">>>>>> {} : 받을 제시어 순번", requestDto.getKeywordIndex());
         log.info(">>>>>> {} : 게임 방 번호", requestDto.getRoomId());
         log.info(">>>>>> {} : 받을 제시어", requestDto.getKeyword());
-        gameService.checkLastRound(requestDto, word);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.checkLastRound(requestDto, word));
     }
 
     // 9. 그림 제출하는 라운드 끝났을 때
@@ -98,35 +105,43 @@ public class GameController {
         log.info(">>>>>>>>>>>> GameController - postImage 실행");
         log.info(">>>>>> {} : 받을 제시어 순번", requestDto.getKeywordIndex());
         log.info(">>>>>> {} : 게임 방 번호", requestDto.getRoomId());
-        gameService.checkLastRound(requestDto, image);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.checkLastRound(requestDto, image));
     }
 
     // 10. 게임 결과 페이지
     @MessageMapping("/game/result")
-    public void getGameFlow(GameFlowRequestDto requestDto) {
+    public void getGameFlow(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - getGameFlow 실행");
-        gameService.getGameFlow(requestDto);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.getGameFlow(requestDto, principal));
     }
 
     // 11. 게임 결과창 - 다음 키워드 가져오기
     @MessageMapping("/game/next-keyword-index")
-    public void nextKeywordIndex(GameFlowRequestDto requestDto) {
+    public void nextKeywordIndex(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - nextResultIndex 실행");
-        gameService.getKeywordIndex(requestDto, next);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.getKeywordIndex(requestDto, next, principal));
     }
 
     // 12. 게임 결과창 - 이전 키워드 가져오기
     @MessageMapping("/game/prev-keyword-index")
-    public void prevKeywordIndex(GameFlowRequestDto requestDto) {
+    public void prevKeywordIndex(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - prevResultIndex 실행");
-        gameService.getKeywordIndex(requestDto, prev);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.getKeywordIndex(requestDto, prev, principal));
     }
 
     // 13. 게임 종료
     @MessageMapping("/game/end")
-    public void endGame(GameFlowRequestDto requestDto) {
+    public void endGame(GameFlowRequestDto requestDto, Principal principal) {
         log.info(">>>>>>>>>>>> GameController - endGame 실행");
         log.info(">>> 게임이 정상 종료되었습니다 - 게임 방 번호 : {},", requestDto.getRoomId());
-        gameService.endGame(requestDto);
+        roomEventLoop.execute(requestDto.getRoomId(), () -> gameService.endGame(requestDto, principal));
     }
-}
\ No newline at end of file
+
+    // 14. 서버 시간 조회 - 클라이언트가 라운드 마감 시각(deadline)에 맞춰 타이머를 보정할 때 사용
+    @GetMapping("/api/clock")
+    public ResponseEntity<Map<String, Object>> getServerTime() {
+        Map<String, Object> clock = new HashMap<>();
+        clock.put("serverTime", System.currentTimeMillis());
+        return ResponseEntity.ok(clock);
+    }
+}
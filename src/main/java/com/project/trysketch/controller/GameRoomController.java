@@ -7,12 +7,13 @@ import com.project.trysketch.service.GameRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 // 1. 기능    : 게임 방 컨트롤러
@@ -25,10 +26,13 @@ public class GameRoomController {
 
     private final GameRoomService gameRoomService;
 
-    // 게임 방 전체 조회 페이징 처리
+    // 게임 방 전체 조회 페이징 처리 (최신순)
+    // 다음 페이지는 이전 응답의 LastCreatedAt, LastId 로 조회 (page 번호로도 조회 가능)
     @GetMapping("/rooms")
-    public ResponseEntity<Map<String, Object>> getAllGameRoom(@PageableDefault(size = 5, sort = "createdAt" , direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(gameRoomService.getAllGameRoom(pageable));
+    public ResponseEntity<Map<String, Object>> getAllGameRoom(@PageableDefault(size = 5) Pageable pageable,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                                              @RequestParam(required = false) Long lastId) {
+        return ResponseEntity.ok(gameRoomService.getAllGameRoom(pageable, lastCreatedAt, lastId));
     }
 
     // 게임 방 상세 조회
@@ -53,4 +57,11 @@ public class GameRoomController {
         log.info(">>> 방 입장 - 방 randomCode : {}, 유저 id : {}", randomCode, request);
         return ResponseEntity.ok(new DataMsgResponseDto(StatusMsgCode.OK, gameRoomService.enterGameRoom(randomCode, request)));
     }
+
+    // 빠른 입장 (difficulty 를 주면 해당 난이도 방 중에서)
+    @PostMapping("/room/quick-join")
+    public ResponseEntity<DataMsgResponseDto> quickJoin(@RequestParam(required = false) String difficulty, HttpServletRequest request) {
+        log.info(">>> 빠른 입장 - 난이도 : {}", difficulty);
+        return ResponseEntity.ok(new DataMsgResponseDto(StatusMsgCode.OK, gameRoomService.quickJoin(difficulty, request)));
+    }
 }
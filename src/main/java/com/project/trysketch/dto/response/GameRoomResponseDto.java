@@ -27,5 +27,10 @@ public class GameRoomResponseDto {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime modifiedAt;
 
+    // 방 목록 조회 쿼리용 (유저 수는 count 결과)
+    public GameRoomResponseDto(Long id, String title, Long gameRoomUserCount, String hostNick, Boolean isPlaying,
+                               String randomCode, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, gameRoomUserCount.intValue(), hostNick, isPlaying, randomCode, createdAt, modifiedAt);
+    }
 
 }
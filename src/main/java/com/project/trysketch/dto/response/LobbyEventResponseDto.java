@@ -0,0 +1,24 @@
+package com.project.trysketch.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+// 1. 기능   : 로비 SSE 변경분(roomsChanged) response 용 DTO
+// 2. 작성자 : 황미경
+// 3. 참고사항 : version 은 변경분을 보낼 때마다 1씩 증가한다. 클라이언트는 connect 로 받은 version 이하의 변경분은 무시한다.
+//             한 번에 모아서 보내므로 생긴 방(added), 바뀐 방(updated), 없어진 방 번호(removed) 중 있는 것만 담긴다
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class LobbyEventResponseDto {
+    private long version;
+    private List<GameRoomResponseDto> added;
+    private List<GameRoomResponseDto> updated;
+    private List<Long> removed;
+}
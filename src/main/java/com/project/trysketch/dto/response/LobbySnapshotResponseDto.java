@@ -0,0 +1,18 @@
+package com.project.trysketch.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+// 1. 기능   : 로비 SSE 최초 연결 시 전체 방 목록 response 용 DTO
+// 2. 작성자 : 황미경
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class LobbySnapshotResponseDto {
+    private long version;
+    private List<GameRoomResponseDto> rooms;
+}
@@ -8,9 +8,11 @@ import javax.persistence.*;
 
 // 1. 기능   : 업적
 // 2. 작성자 : 김재영
+// 3. 참고사항 : 같은 유저가 같은 업적을 두번 얻지 않도록 (user_id, name) 에 unique 제약을 둔다
 @NoArgsConstructor
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_achievement_user_name", columnNames = {"user_id", "name"}))
 public class Achievement extends Timestamped {
 
     @Id
@@ -51,4 +51,18 @@ public class GameFlow {
 
     @Column(nullable = false)
     private String userImgPath;  // 유저 프로필 이미지
+
+    @Transient
+    private Long userId;         // 제출한 유저 id (RoomJournal 기록용, DB 에 저장하지 않음)
+
+    // 업로드가 끝난 그림 정보 반영
+    public void updateImage(String imagePath, Long imagePk) {
+        this.imagePath = imagePath;
+        this.imagePk = imagePk;
+    }
+
+    // 재접속으로 바뀐 webSessionId 반영
+    public void updateWebSessionId(String webSessionId) {
+        this.webSessionId = webSessionId;
+    }
 }
@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 
-// 1. 기능   : 제출 인원
+// 1. 기능   : 라운드별 제출 인원 기록 (game.submit.audit=true 일 때만 저장)
 // 2. 작성자 : 안은솔
 @Getter
 @Entity
@@ -0,0 +1,41 @@
+package com.project.trysketch.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+
+// 1. 기능   : 업적 테이블 (user_id, name) unique 제약 추가
+// 2. 작성자 : 김재영
+// 3. 참고사항 : ddl-auto update 는 이미 중복된 업적이 있으면 제약 추가에 실패하고 로그만 남긴다.
+//             서버 시작 시 (Hibernate 스키마 갱신 후, 요청을 받기 전) 제약이 없다면 중복 업적을 가장 먼저 얻은 것만 남기고 지운 뒤 제약을 추가한다.
+//             실패하면 중복 저장을 막을 수 없으므로 서버 시작을 중단한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class AchievementMigration {
+
+    private static final String UNIQUE_KEY = "uk_achievement_user_name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        Integer keyCount = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.statistics " +
+                        "where table_schema = database() and table_name = 'achievement' and index_name = ?",
+                Integer.class, UNIQUE_KEY);
+        if (keyCount != null && keyCount > 0) {
+            return;
+        }
+
+        int deleted = jdbcTemplate.update(
+                "delete a from achievement a join achievement b " +
+                        "on a.user_id = b.user_id and a.name = b.name and a.id > b.id");
+        jdbcTemplate.execute("alter table achievement add constraint " + UNIQUE_KEY + " unique (user_id, name)");
+        log.info(">>>>>>> [AchievementMigration - migrate] 중복 업적 {}건 삭제 후 {} 추가", deleted, UNIQUE_KEY);
+    }
+}
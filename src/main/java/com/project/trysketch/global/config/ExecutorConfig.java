@@ -0,0 +1,66 @@
+package com.project.trysketch.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 1. 기능   : 비동기 작업용 Executor Config
+// 2. 작성자 : 황미경
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${game.image.upload.pool-size:4}")
+    private int imageUploadPoolSize;            // 그림 업로드 스레드 수
+
+    @Value("${game.image.upload.queue-capacity:64}")
+    private int imageUploadQueueCapacity;       // 그림 업로드 대기열 크기
+
+    @Value("${sse.fanout.pool-size:2}")
+    private int sseFanoutPoolSize;              // 로비 SSE 전송 스레드 수
+
+    @Value("${signaling.sender.pool-size:4}")
+    private int signalingSenderPoolSize;        // 시그널링 메시지 전송 스레드 수
+
+    // 그림 업로드 (S3) 전용 스레드 풀
+    // 대기열이 가득 차면 요청한 스레드(방 이벤트 루프)를 막지 않도록 거절하고, 업로드 실패(IMAGE_SAVE_FAILED)로 처리한다
+    @Bean(name = "imageUploadExecutor")
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageUploadPoolSize);
+        executor.setMaxPoolSize(imageUploadPoolSize);
+        executor.setQueueCapacity(imageUploadQueueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 로비 SSE 전송 전용 스레드 풀
+    // emitter 마다 전송 작업이 최대 1개만 올라가므로 대기열은 연결 수를 넘지 않는다
+    @Bean(name = "sseFanoutExecutor")
+    public ThreadPoolTaskExecutor sseFanoutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sseFanoutPoolSize);
+        executor.setMaxPoolSize(sseFanoutPoolSize);
+        executor.setThreadNamePrefix("sse-fanout-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 시그널링 메시지 전송 전용 스레드 풀
+    // 느린 클라이언트에게 쓰는 동안 방 이벤트 루프가 막히지 않도록 실제 write 는 여기서 한다
+    // 세션마다 전송 작업이 최대 1개만 올라가므로 대기열은 연결 수를 넘지 않는다
+    @Bean(name = "signalingSenderExecutor")
+    public ThreadPoolTaskExecutor signalingSenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(signalingSenderPoolSize);
+        executor.setMaxPoolSize(signalingSenderPoolSize);
+        executor.setThreadNamePrefix("signaling-sender-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -52,6 +52,10 @@ public class WebSecurityConfig {
 
         http.httpBasic().disable()
                 .authorizeRequests()
+                // Actuator 는 GET 전체 허용보다 먼저 막아둔다
+                // 노출 설정은 배포용 설정(secrets.PROPERTIES)에 추가 : management.endpoints.web.exposure.include=health,metrics
+                // 가능하면 management.server.port, management.server.address=127.0.0.1 로 내부 포트에서만 열 것
+                .antMatchers("/actuator/**").authenticated()
                 .antMatchers(HttpMethod.GET).permitAll()
                 .antMatchers("/api/users/**", "/api/**").permitAll()
                 .antMatchers("/signal/**", "/ws/**").permitAll()
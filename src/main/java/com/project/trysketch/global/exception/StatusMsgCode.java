@@ -28,11 +28,13 @@ public enum StatusMsgCode {
     ALREADY_PLAYING(HttpStatus.BAD_REQUEST, "게임이 이미 시작되었습니다"),
     FULL_BANG(HttpStatus.BAD_REQUEST, "허용된 최대 사용자 수에 도달했습니다"),
     GAMEROOM_NOT_FOUND(HttpStatus.BAD_REQUEST,"방을 찾을 수 없습니다"),
+    JOINABLE_GAMEROOM_NOT_FOUND(HttpStatus.BAD_REQUEST,"입장 가능한 방이 없습니다"),
     GAMEFLOW_NOT_FOUND(HttpStatus.BAD_REQUEST,"게임 플로우를 찾을 수 없습니다"),
     HOST_AUTHORIZATION_NEED(HttpStatus.BAD_REQUEST,"방장 권한이 필요합니다"),
     GAME_NOT_ONLINE(HttpStatus.BAD_REQUEST,"진행되는 게임이 없습니다"),
     NOT_STARTED_YET(HttpStatus.BAD_REQUEST,"아직 게임이 시작되지 않았습니다"),
     KEYWORD_INDEX_NOT_FOUND(HttpStatus.BAD_REQUEST, "불러올 키워드 순번이 없습니다"),
+    KEYWORD_NOT_FOUND(HttpStatus.BAD_REQUEST, "제시어를 찾을 수 없습니다"),
 
     /* Resource 의 현재 상태와 충돌 관련 Status 메시지 코드*/
 //    DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "데이터가 이미 존재합니다"),
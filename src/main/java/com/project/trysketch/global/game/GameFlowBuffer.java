@@ -0,0 +1,251 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.entity.GameFlow;
+import com.project.trysketch.repository.GameFlowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 1. 기능   : 게임 진행중 GameFlow 를 메모리에 모아두었다가 한번에 저장 (write-behind)
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 결과 페이지에 도달하면 방의 GameFlow 를 batch insert 로 한번에 저장한다.
+//             game.flow.write-behind=false 이면 기존처럼 제출마다 바로 DB 에 저장한다.
+//             제출 / 취소 / 그림 반영은 RoomJournal 에도 기록해서 서버가 재시작되어도 다시 채울 수 있다.
+@Slf4j
+@Component
+public class GameFlowBuffer {
+
+    private final GameFlowRepository gameFlowRepository;
+    private final RoomJournal roomJournal;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
+
+    // 방 번호 -> 해당 방에서 아직 저장되지 않은 GameFlow
+    private final Map<Long, RoomFlows> rooms = new ConcurrentHashMap<>();
+
+    public GameFlowBuffer(GameFlowRepository gameFlowRepository,
+                          RoomJournal roomJournal,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${game.flow.write-behind:true}") boolean writeBehind) {
+        this.gameFlowRepository = gameFlowRepository;
+        this.roomJournal = roomJournal;
+        this.writeBehind = writeBehind;
+
+        // 저장이 끝나야 다른 유저가 결과를 조회할 수 있으므로 호출한 쪽 트랜잭션과 별개로 바로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // GameFlow 저장
+    public void save(GameFlow gameFlow) {
+        roomJournal.submit(gameFlow);
+        if (!writeBehind) {
+            gameFlowRepository.saveAndFlush(gameFlow);
+            return;
+        }
+        RoomFlows room = rooms.computeIfAbsent(gameFlow.getRoomId(), id -> new RoomFlows());
+        synchronized (room) {
+            if (room.flushed) {
+                // 이미 결과 페이지로 넘어간 방이면 바로 저장
+                gameFlowRepository.saveAndFlush(gameFlow);
+                return;
+            }
+            room.bySession.put(sessionKey(gameFlow.getRound(), gameFlow.getWebSessionId()), gameFlow);
+            room.byKeyword.put(keywordKey(gameFlow.getRound(), gameFlow.getKeywordIndex()), gameFlow);
+        }
+    }
+
+    // 여러 GameFlow 저장
+    public void saveAll(List<GameFlow> gameFlowList) {
+        for (GameFlow gameFlow : gameFlowList) {
+            save(gameFlow);
+        }
+    }
+
+    // 제출 취소 시 GameFlow 삭제
+    public void delete(Long roomId, int round, Long userId, String webSessionId) {
+        roomJournal.cancel(roomId, round, userId);
+        RoomFlows room = getBufferedRoom(roomId);
+        if (room != null) {
+            synchronized (room) {
+                if (!room.flushed) {
+                    GameFlow gameFlow = room.bySession.remove(sessionKey(round, webSessionId));
+                    if (gameFlow != null) {
+                        room.byKeyword.remove(keywordKey(round, gameFlow.getKeywordIndex()), gameFlow);
+                    }
+                    return;
+                }
+            }
+        }
+        GameFlow gameFlow = gameFlowRepository.findByRoomIdAndRoundAndWebSessionId(roomId, round, webSessionId);
+        if (gameFlow != null) {
+            gameFlowRepository.delete(gameFlow);
+        }
+    }
+
+    // 업로드가 끝난 그림 정보 반영, 이미 저장된 GameFlow 라면 DB 도 수정
+    public void updateImage(GameFlow gameFlow, String imagePath, Long imagePk) {
+        RoomFlows room = getBufferedRoom(gameFlow.getRoomId());
+        if (room != null) {
+            synchronized (room) {
+                if (!room.flushed) {
+                    gameFlow.updateImage(imagePath, imagePk);
+                    roomJournal.image(gameFlow);
+                    return;
+                }
+            }
+        }
+        gameFlow.updateImage(imagePath, imagePk);
+        roomJournal.image(gameFlow);
+        transactionTemplate.executeWithoutResult(status -> gameFlowRepository.updateImage(
+                gameFlow.getRoomId(), gameFlow.getRound(), gameFlow.getWebSessionId(), imagePath, imagePk));
+    }
+
+    // 재접속으로 바뀐 webSessionId 를 유저가 제출한 저장 대기중인 GameFlow 에 반영
+    public void updateWebSessionId(Long roomId, Long userId, String webSessionId) {
+        roomJournal.session(roomId, userId, webSessionId);
+        RoomFlows room = getBufferedRoom(roomId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            if (room.flushed) {
+                return;
+            }
+            List<GameFlow> gameFlowList = room.bySession.values().stream()
+                    .filter(gameFlow -> userId.equals(gameFlow.getUserId()))
+                    .collect(Collectors.toList());
+            for (GameFlow gameFlow : gameFlowList) {
+                room.bySession.remove(sessionKey(gameFlow.getRound(), gameFlow.getWebSessionId()), gameFlow);
+                gameFlow.updateWebSessionId(webSessionId);
+                room.bySession.put(sessionKey(gameFlow.getRound(), webSessionId), gameFlow);
+            }
+        }
+    }
+
+    // 라운드, 키워드 순번으로 GameFlow 조회
+    public Optional<GameFlow> findByKeywordIndex(Long roomId, int round, int keywordIndex) {
+        RoomFlows room = getBufferedRoom(roomId);
+        if (room != null) {
+            synchronized (room) {
+                if (!room.flushed) {
+                    return Optional.ofNullable(room.byKeyword.get(keywordKey(round, keywordIndex)));
+                }
+            }
+        }
+        return gameFlowRepository.findByRoomIdAndRoundAndKeywordIndex(roomId, round, keywordIndex);
+    }
+
+    // 해당 유저가 방에서 제출한 모든 GameFlow 조회
+    public List<GameFlow> findAllByWebSessionId(Long roomId, String webSessionId) {
+        RoomFlows room = getBufferedRoom(roomId);
+        if (room != null) {
+            synchronized (room) {
+                if (!room.flushed) {
+                    return room.bySession.values().stream()
+                            .filter(gameFlow -> gameFlow.getWebSessionId().equals(webSessionId))
+                            .collect(Collectors.toList());
+                }
+            }
+        }
+        return gameFlowRepository.findAllByWebSessionIdAndRoomId(webSessionId, roomId);
+    }
+
+    // 방의 GameFlow 를 한번에 저장, 여러 유저가 동시에 호출해도 한번만 저장된다
+    public void flush(Long roomId) {
+        RoomFlows room = getBufferedRoom(roomId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            if (room.flushed) {
+                return;
+            }
+            List<GameFlow> gameFlowList = new ArrayList<>(room.bySession.values());
+            persist(roomId, gameFlowList);
+            room.bySession.clear();
+            room.byKeyword.clear();
+            room.flushed = true;
+        }
+        roomJournal.flushed(roomId);
+    }
+
+    // 서버 재시작 시 RoomJournal 에서 다시 만든 GameFlow 채우기 (이미 DB 에 저장된 방이면 flushed = true)
+    // write-through 모드라면 제출마다 이미 저장되었으므로 아무것도 하지 않는다
+    public void restore(Long roomId, List<GameFlow> gameFlowList, boolean flushed) {
+        if (!writeBehind) {
+            return;
+        }
+        RoomFlows room = new RoomFlows();
+        room.flushed = flushed;
+        if (!flushed) {
+            for (GameFlow gameFlow : gameFlowList) {
+                room.bySession.put(sessionKey(gameFlow.getRound(), gameFlow.getWebSessionId()), gameFlow);
+                room.byKeyword.put(keywordKey(gameFlow.getRound(), gameFlow.getKeywordIndex()), gameFlow);
+            }
+        }
+        rooms.put(roomId, room);
+        log.info(">>>>>>> [GameFlowBuffer - restore] #{}번 방 GameFlow {}건 복구", roomId, flushed ? 0 : gameFlowList.size());
+    }
+
+    // 게임 종료 시 방의 GameFlow 버리기 (DB 의 GameFlow 는 호출한 쪽에서 삭제)
+    public void discard(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    // 서버 종료(kill -15) 시 저장되지 않은 GameFlow 모두 저장
+    @PreDestroy
+    public void flushAll() {
+        for (Long roomId : rooms.keySet()) {
+            try {
+                flush(roomId);
+            } catch (RuntimeException e) {
+                log.error(">>>>>>> [GameFlowBuffer - flushAll] #{}번 방 GameFlow 저장 실패 : {}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    // batch insert 로 저장, 실패하면 JPA 로 한 건씩 저장
+    private void persist(Long roomId, List<GameFlow> gameFlowList) {
+        if (gameFlowList.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> gameFlowRepository.batchInsert(gameFlowList));
+        } catch (RuntimeException e) {
+            log.error(">>>>>>> [GameFlowBuffer - persist] #{}번 방 batch insert 실패, 한 건씩 저장 : {}", roomId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> gameFlowRepository.saveAll(gameFlowList));
+        }
+        log.info(">>>>>>> [GameFlowBuffer - persist] #{}번 방 GameFlow {}건 저장 ({}ms)", roomId, gameFlowList.size(), System.currentTimeMillis() - start);
+    }
+
+    private RoomFlows getBufferedRoom(Long roomId) {
+        return writeBehind ? rooms.get(roomId) : null;
+    }
+
+    private static String sessionKey(int round, String webSessionId) {
+        return round + ":" + webSessionId;
+    }
+
+    private static String keywordKey(int round, int keywordIndex) {
+        return round + ":" + keywordIndex;
+    }
+
+    // 방 하나의 저장 대기중인 GameFlow
+    private static class RoomFlows {
+        private final Map<String, GameFlow> bySession = new ConcurrentHashMap<>();   // "라운드:webSessionId" -> GameFlow
+        private final Map<String, GameFlow> byKeyword = new ConcurrentHashMap<>();   // "라운드:키워드 순번" -> GameFlow
+        private boolean flushed = false;                                             // 저장 완료 여부
+    }
+}
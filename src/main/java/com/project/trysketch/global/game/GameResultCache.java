@@ -0,0 +1,110 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.entity.GameFlow;
+import com.project.trysketch.entity.GameRoomUser;
+import com.project.trysketch.global.exception.CustomException;
+import com.project.trysketch.global.exception.StatusMsgCode;
+import com.project.trysketch.repository.GameFlowRepository;
+import com.project.trysketch.repository.GameRoomUserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 1. 기능   : 게임 결과(2차원 배열)를 방마다 한번만 만들어 공유
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 방의 GameFlow 를 한번에 조회해서 결과를 만들고, 결과 페이지를 요청한 모든 유저에게 같은 결과를 보낸다.
+//             결과는 변경할 수 없으며 게임 종료(endGame, shutDownGame) 또는 방 삭제 시 제거된다.
+//             참여자 리스트는 결과 화면에서도 나가거나 방장이 바뀔 수 있으므로 캐시하지 않고 요청마다 만든다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameResultCache {
+
+    private final GameFlowRepository gameFlowRepository;
+    private final GameRoomUserRepository gameRoomUserRepository;
+
+    // 방 번호 -> 해당 방의 게임 결과
+    private final Map<Long, GameResult> results = new ConcurrentHashMap<>();
+
+    // 게임 결과 조회, 없으면 생성 (여러 유저가 동시에 요청해도 한번만 생성된다)
+    public GameResult get(RoomMetaCache.RoomMeta gameRoom) {
+        return results.computeIfAbsent(gameRoom.getId(), id -> build(gameRoom));
+    }
+
+    // 게임 종료 시 게임 결과 삭제
+    public void evict(Long roomId) {
+        results.remove(roomId);
+    }
+
+    private GameResult build(RoomMetaCache.RoomMeta gameRoom) {
+        long start = System.currentTimeMillis();
+        int roundMaxNum = gameRoom.getRoundMaxNum();
+
+        // 결과 배열의 [키워드 순번 - 1][라운드 - 1] 위치에 GameFlow 배치
+        GameFlow[][] gameFlows = new GameFlow[roundMaxNum][roundMaxNum];
+        for (GameFlow gameFlow : gameFlowRepository.findAllByRoomId(gameRoom.getId())) {
+            int keywordIndex = gameFlow.getKeywordIndex();
+            int round = gameFlow.getRound();
+            if (keywordIndex < 1 || keywordIndex > roundMaxNum || round < 1 || round > roundMaxNum) {
+                continue;
+            }
+            gameFlows[keywordIndex - 1][round - 1] = gameFlow;
+        }
+
+        // 2차원 배열의 요소 : 닉네임, 키워드 or imagePath, 프로필사진
+        List<List<Map<String, String>>> resultList = new ArrayList<>(roundMaxNum);
+        for (int i = 0; i < roundMaxNum; i++) {
+            List<Map<String, String>> row = new ArrayList<>(roundMaxNum);
+            for (int j = 0; j < roundMaxNum; j++) {
+                GameFlow gameFlow = gameFlows[i][j];
+                if (gameFlow == null) {
+                    throw new CustomException(StatusMsgCode.GAMEFLOW_NOT_FOUND);
+                }
+
+                Map<String, String> gameResultMap = new HashMap<>();
+                gameResultMap.put("nickname", gameFlow.getNickname());
+                if ((j + 1) % 2 == 0) {
+                    // 짝수 round 일 때 -> 이미지
+                    gameResultMap.put("imgPath", gameFlow.getImagePath());
+                    gameResultMap.put("imgId", String.valueOf(gameFlow.getImagePk()));
+                } else {
+                    // 홀수 round 일 때 -> 제시어
+                    gameResultMap.put("keyword", gameFlow.getKeyword());
+                }
+                gameResultMap.put("userImgPath", gameFlow.getUserImgPath());
+                row.add(Collections.unmodifiableMap(gameResultMap));
+            }
+            resultList.add(Collections.unmodifiableList(row));
+        }
+
+        log.info(">>>>>>> [GameResultCache - build] #{}번 방 게임 결과 생성 ({}ms)", gameRoom.getId(), System.currentTimeMillis() - start);
+        return new GameResult(Collections.unmodifiableList(resultList));
+    }
+
+    // 현재 방에 남아있는 게임 참여자 리스트 (프로필사진, 닉네임, 방장여부), 요청마다 새로 만든다
+    public List<Map<String, Object>> getGamerList(RoomMetaCache.RoomMeta gameRoom) {
+        List<Map<String, Object>> gamerList = new ArrayList<>();
+        for (GameRoomUser gameRoomUser : gameRoomUserRepository.findAllByGameRoomId(gameRoom.getId())) {
+            Map<String, Object> gamerMap = new HashMap<>();
+            gamerMap.put("imgUrl", gameRoomUser.getImgUrl());
+            gamerMap.put("nickname", gameRoomUser.getNickname());
+            gamerMap.put("isHost", gameRoom.getHostId().equals(gameRoomUser.getUserId()));
+            gamerList.add(gamerMap);
+        }
+        return gamerList;
+    }
+
+    // 방 하나의 게임 결과
+    @Getter
+    @RequiredArgsConstructor
+    public static class GameResult {
+        private final List<List<Map<String, String>>> resultList;   // 게임 결과 (2차원 배열)
+    }
+}
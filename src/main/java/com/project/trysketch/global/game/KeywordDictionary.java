@@ -0,0 +1,165 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.entity.Adjective;
+import com.project.trysketch.entity.Noun;
+import com.project.trysketch.global.exception.CustomException;
+import com.project.trysketch.global.exception.StatusMsgCode;
+import com.project.trysketch.repository.AdjectiveRepository;
+import com.project.trysketch.repository.NounRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 1. 기능   : 제시어 사전 (명사, 형용사를 메모리에 올려두고 방마다 중복 없이 뽑기)
+// 2. 작성자 : 서혁수
+// 3. 참고사항 : 서버 시작 시 Noun, Adjective 테이블을 배열로 한번만 불러오고, reload() 로 재시작 없이 갱신 가능
+//             방마다 섞어둔 순번(deck)을 앞에서부터 꺼내 쓰므로 한 방에서 같은 제시어가 다시 나오지 않는다.
+//             사전이 갱신되어도 방의 deck 은 만들 때의 사전을 계속 쓰고, deck 을 다 쓴 뒤에 새 사전으로 바꾼다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordDictionary {
+
+    private final NounRepository nounRepository;
+    private final AdjectiveRepository adjectiveRepository;
+
+    // 현재 사용중인 사전, reload 시 통째로 교체
+    private volatile Dictionary dictionary = new Dictionary(new String[0], new String[0], 0);
+
+    // 방 번호 -> 해당 방의 제시어 deck
+    private final Map<Long, RoomDeck> decks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    // DB 에서 명사, 형용사를 다시 불러와 사전 교체
+    public void reload() {
+        String[] nouns = nounRepository.findAll().stream()
+                .map(Noun::getNoun)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+        String[] adjectives = adjectiveRepository.findAll().stream()
+                .map(Adjective::getAdjective)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+
+        // 내용이 그대로면 사전을 바꾸지 않는다 (진행중인 방의 deck 유지)
+        Dictionary current = dictionary;
+        if (Arrays.equals(nouns, current.nouns) && Arrays.equals(adjectives, current.adjectives)) {
+            log.info(">>>>>>> [KeywordDictionary - reload] 변경 없음 (version {})", current.version);
+            return;
+        }
+        dictionary = new Dictionary(nouns, adjectives, current.version + 1);
+        log.info(">>>>>>> [KeywordDictionary - reload] 명사 {}개, 형용사 {}개 불러옴 (version {})", nouns.length, adjectives.length, dictionary.version);
+    }
+
+    // 난이도에 맞춰 해당 방에서 아직 나오지 않은 제시어 count 개 뽑기
+    public List<String> draw(Long roomId, String difficulty, int count) {
+        Dictionary current = dictionary;
+        if (current.nouns.length == 0 || ("hard".equals(difficulty) && current.adjectives.length == 0)) {
+            throw new CustomException(StatusMsgCode.KEYWORD_NOT_FOUND);
+        }
+
+        RoomDeck deck = decks.computeIfAbsent(roomId, id -> new RoomDeck(current));
+
+        List<String> keywordList = new ArrayList<>(count);
+        synchronized (deck) {
+            for (int i = 0; i < count; i++) {
+                // 명사 deck 을 다 썼을 때만 새 사전으로 교체 (한 바퀴 안에서는 중복 없음)
+                if (deck.nounDeck.isExhausted() && deck.dictionary.version != current.version) {
+                    deck.reset(current);
+                }
+                Dictionary used = deck.dictionary;
+                String noun = used.nouns[deck.nounDeck.next()];
+                if ("hard".equals(difficulty) && used.adjectives.length > 0) {
+                    keywordList.add(used.adjectives[deck.adjectiveDeck.next()] + " " + noun);
+                } else {
+                    keywordList.add(noun);
+                }
+            }
+        }
+        return keywordList;
+    }
+
+    // 방이 삭제되면 deck 삭제
+    public void release(Long roomId) {
+        decks.remove(roomId);
+    }
+
+    // 명사, 형용사 배열 (index 로 접근)
+    private static class Dictionary {
+        private final String[] nouns;
+        private final String[] adjectives;
+        private final int version;
+
+        private Dictionary(String[] nouns, String[] adjectives, int version) {
+            this.nouns = nouns;
+            this.adjectives = adjectives;
+            this.version = version;
+        }
+    }
+
+    // 방 하나의 명사, 형용사 deck (deck 을 만든 사전을 같이 들고 있다)
+    private static class RoomDeck {
+        private Dictionary dictionary;
+        private Deck nounDeck;
+        private Deck adjectiveDeck;
+
+        private RoomDeck(Dictionary dictionary) {
+            reset(dictionary);
+        }
+
+        private void reset(Dictionary dictionary) {
+            this.dictionary = dictionary;
+            this.nounDeck = new Deck(dictionary.nouns.length);
+            this.adjectiveDeck = new Deck(dictionary.adjectives.length);
+        }
+    }
+
+    // 섞인 index 배열, 끝까지 다 쓰면 다시 섞는다
+    private static class Deck {
+        private final int[] order;
+        private int cursor;
+
+        private Deck(int size) {
+            this.order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            shuffle();
+        }
+
+        private boolean isExhausted() {
+            return cursor == order.length;
+        }
+
+        private int next() {
+            if (cursor == order.length) {
+                shuffle();
+            }
+            return order[cursor++];
+        }
+
+        // Fisher-Yates shuffle
+        private void shuffle() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int temp = order[i];
+                order[i] = order[j];
+                order[j] = temp;
+            }
+            cursor = 0;
+        }
+    }
+}
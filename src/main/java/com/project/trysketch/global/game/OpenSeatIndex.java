@@ -0,0 +1,113 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.repository.GameRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 1. 기능   : 빠른 입장용 빈 자리 있는 방 인덱스
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 게임중이 아니고 자리가 남은 방만 인원이 많은 순(같으면 먼저 만든 방 순)으로 들고 있다.
+//             인원은 SeatAllocator 가 자리를 잡고 비울 때, 게임 여부와 난이도는 RoomMetaCache 에 반영될 때 갱신된다.
+//             방 설정이 아직 커밋되지 않은 방(생성중인 방)은 후보에 넣지 않는다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OpenSeatIndex {
+
+    private static final Comparator<Slot> MOST_FULL_FIRST = Comparator
+            .comparingInt((Slot slot) -> slot.seated).reversed()
+            .thenComparingLong(slot -> slot.roomId);
+
+    private final GameRoomRepository gameRoomRepository;
+
+    // 방 번호 -> 방 상태
+    private final Map<Long, Slot> slots = new HashMap<>();
+
+    // 입장 가능한 방 (인원 많은 순)
+    private final NavigableSet<Slot> open = new TreeSet<>(MOST_FULL_FIRST);
+
+    // 서버 시작 시 게임중이 아닌 방의 인원, 난이도 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Object[] room : gameRoomRepository.findWaitingRoomSeats()) {
+            Long roomId = (Long) room[0];
+            synchronized (this) {
+                if (!slots.containsKey(roomId)) {
+                    update(new Slot(roomId, ((Long) room[2]).intValue(), false, (String) room[1]));
+                }
+            }
+        }
+        log.info(">>>>>>> [OpenSeatIndex - load] 입장 가능한 방 {}개 로드", open.size());
+    }
+
+    // 입장 가능한 방 중 인원이 가장 많은 방 (difficulty 가 null 이면 난이도 무관, 제외할 방은 excluded)
+    public synchronized Long pick(String difficulty, Set<Long> excluded) {
+        for (Slot slot : open) {
+            if (excluded.contains(slot.roomId)) {
+                continue;
+            }
+            if (difficulty == null || difficulty.equals(slot.difficulty)) {
+                return slot.roomId;
+            }
+        }
+        return null;
+    }
+
+    // 자리를 잡거나 비운 후 인원 반영
+    public synchronized void updateSeats(Long roomId, int seated) {
+        Slot slot = slots.get(roomId);
+        update(slot == null ? new Slot(roomId, seated, false, null) : new Slot(roomId, seated, slot.isPlaying, slot.difficulty));
+    }
+
+    // 방 설정이 바뀐 후 게임 여부, 난이도 반영
+    public synchronized void updateRoom(Long roomId, boolean isPlaying, String difficulty) {
+        Slot slot = slots.get(roomId);
+        update(new Slot(roomId, slot == null ? 0 : slot.seated, isPlaying, difficulty));
+    }
+
+    // 방 삭제
+    public synchronized void remove(Long roomId) {
+        Slot slot = slots.remove(roomId);
+        if (slot != null) {
+            open.remove(slot);
+        }
+    }
+
+    private void update(Slot slot) {
+        Slot before = slots.put(slot.roomId, slot);
+        if (before != null) {
+            open.remove(before);
+        }
+        if (slot.isOpen()) {
+            open.add(slot);
+        }
+    }
+
+    // 방 상태 (값을 바꿀 때는 새 객체를 만든다)
+    private static class Slot {
+        private final Long roomId;
+        private final int seated;
+        private final boolean isPlaying;
+        private final String difficulty;    // 방 설정이 커밋되기 전이면 null
+
+        private Slot(Long roomId, int seated, boolean isPlaying, String difficulty) {
+            this.roomId = roomId;
+            this.seated = seated;
+            this.isPlaying = isPlaying;
+            this.difficulty = difficulty;
+        }
+
+        private boolean isOpen() {
+            return difficulty != null && !isPlaying && seated > 0 && seated < SeatAllocator.MAX_SEATS;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.entity.GameRoom;
+import com.project.trysketch.global.utill.AfterCommit;
+import com.project.trysketch.repository.GameRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 1. 기능   : 초대 코드 발급 및 코드 -> 방 번호 조회
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 살아있는 방의 코드를 메모리에 들고 있어서 새 코드는 겹치지 않을 때까지 다시 뽑고, 입장 시 코드로 방 번호를 바로 찾는다.
+//             서버 시작 시 DB 의 방 코드를 한번 읽어 채우고, 메모리에 없는 코드만 DB 에서 찾는다.
+//             방 생성이 롤백되면 코드를 돌려놓고, 방이 삭제되면 커밋 후 코드를 반납한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RoomCodeRegistry {
+
+    private static final String CHARS = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int LENGTH = 8;
+    private static final Long RESERVED = 0L;    // 발급했지만 아직 방이 저장되지 않은 코드
+
+    private final GameRoomRepository gameRoomRepository;
+
+    // 초대 코드 -> 방 번호
+    private final Map<String, Long> codes = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Object[] room : gameRoomRepository.findAllRoomCodes()) {
+            codes.putIfAbsent((String) room[1], (Long) room[0]);
+        }
+        log.info(">>>>>>> [RoomCodeRegistry - load] 초대 코드 {}개 로드", codes.size());
+    }
+
+    // 살아있는 방과 겹치지 않는 코드 발급 (소문자와 숫자 8자리 조합)
+    public String allocate() {
+        while (true) {
+            String code = draw();
+            if (codes.putIfAbsent(code, RESERVED) == null) {
+                AfterCommit.onRollback(() -> codes.remove(code));
+                return code;
+            }
+            log.info(">>>>>>> [RoomCodeRegistry - allocate] 코드 중복 {}, 다시 발급", code);
+        }
+    }
+
+    // 방 저장 후 코드에 방 번호 연결
+    public void bind(String code, Long roomId) {
+        codes.put(code, roomId);
+    }
+
+    // 코드로 방 번호 찾기 (없는 코드면 null)
+    public Long resolve(String code) {
+        Long roomId = codes.get(code);
+        if (roomId != null) {
+            return RESERVED.equals(roomId) ? null : roomId;
+        }
+        GameRoom gameRoom = gameRoomRepository.findByRandomCode(code).orElse(null);
+        if (gameRoom == null) {
+            return null;
+        }
+        codes.putIfAbsent(code, gameRoom.getId());
+        return gameRoom.getId();
+    }
+
+    // 방 삭제 시 코드 반납 (커밋 후)
+    public void release(String code, Long roomId) {
+        AfterCommit.run(() -> codes.remove(code, roomId));
+    }
+
+    private String draw() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder code = new StringBuilder(LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            code.append(CHARS.charAt(random.nextInt(CHARS.length())));
+        }
+        return code.toString();
+    }
+}
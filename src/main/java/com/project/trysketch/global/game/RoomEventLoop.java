@@ -0,0 +1,65 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.global.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 1. 기능   : 방 단위로 순서를 보장하는 이벤트 루프
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : 방 번호로 고정된 스레드(room-loop-N)를 골라 해당 방의 변경 작업을 한 줄로 실행한다.
+//             STOMP, 시그널링, 라운드 타이머 어디서 들어온 요청이든 같은 방의 작업은 동시에 실행되지 않는다.
+//             방마다 스레드를 만들지 않고 고정된 개수의 스레드에 방을 나눠 담으므로 방이 많아져도 스레드 수는 그대로다
+@Slf4j
+@Component
+public class RoomEventLoop {
+
+    private final ExecutorService[] loops;
+
+    public RoomEventLoop(@Value("${game.room.loop-threads:0}") int loopThreads) {
+        int size = loopThreads > 0 ? loopThreads : Runtime.getRuntime().availableProcessors();
+        this.loops = new ExecutorService[size];
+        for (int i = 0; i < size; i++) {
+            String threadName = "room-loop-" + i;
+            loops[i] = Executors.newSingleThreadExecutor(r -> new Thread(r, threadName));
+        }
+        log.info(">>>>>>> [RoomEventLoop] 스레드 {}개로 시작", size);
+    }
+
+    // 해당 방의 작업 순서에 맞춰 실행, 실패하면 로그만 남기고 다음 작업을 계속 실행한다
+    public void execute(Long roomId, RoomTask task) {
+        loops[index(roomId)].execute(() -> {
+            try {
+                task.run();
+            } catch (CustomException e) {
+                log.info(">>>>>>> [RoomEventLoop] #{}번 방 작업 실패 : {}", roomId, e.getStatusMsgCode().getDetail());
+            } catch (Exception e) {
+                log.error(">>>>>>> [RoomEventLoop] #{}번 방 작업 실패", roomId, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService loop : loops) {
+            loop.shutdown();
+        }
+        for (ExecutorService loop : loops) {
+            loop.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private int index(Long roomId) {
+        return roomId == null ? 0 : (int) Math.floorMod(roomId, (long) loops.length);
+    }
+
+    // 방에서 실행할 작업
+    @FunctionalInterface
+    public interface RoomTask {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,423 @@
+package com.project.trysketch.global.game;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.trysketch.entity.GameFlow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// 1. 기능   : 진행중인 게임의 이벤트를 방마다 파일에 기록 (서버 재시작 시 복구용)
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : 방마다 room-{방 번호}.log 파일에 이벤트를 한 줄씩(JSON) 이어 붙이기만 한다.
+//             서버가 다시 뜨면 파일을 처음부터 읽어 제출 현황과 저장 대기중인 GameFlow 를 다시 만든다.
+//             webSessionId 는 재접속하면 바뀌므로 유저는 유저 id 로 기록하고, 재접속 시 SESSION 으로 새 webSessionId 를 기록한다.
+//             결과 페이지로 넘어가면 최종 상태만 남기도록 압축하고, 게임이 끝나면 파일을 삭제한다.
+//             기록 실패는 게임 진행을 막지 않도록 로그만 남긴다
+@Slf4j
+@Component
+public class RoomJournal {
+
+    private static final String PREFIX = "room-";
+    private static final String SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final boolean fsync;
+    private final Path dir;
+
+    // 방 번호 -> 기록중인 파일
+    private final Map<Long, FileChannel> segments = new ConcurrentHashMap<>();
+
+    public RoomJournal(@Value("${game.journal.enabled:true}") boolean enabled,
+                       @Value("${game.journal.dir:journal}") String dir,
+                       @Value("${game.journal.fsync:false}") boolean fsync) {
+        this.enabled = enabled;
+        this.fsync = fsync;
+        this.dir = Paths.get(dir);
+        if (enabled) {
+            try {
+                Files.createDirectories(this.dir);
+            } catch (IOException e) {
+                throw new IllegalStateException("journal 디렉토리 생성 실패 : " + this.dir.toAbsolutePath(), e);
+            }
+        }
+    }
+
+    // 게임 시작 : 이전 기록을 지우고 새로 기록 시작
+    public void start(Long roomId, int roundMaxNum, long timeLimit, List<Long> userIds) {
+        if (!enabled) {
+            return;
+        }
+        delete(roomId);
+        append(roomId, Event.builder()
+                .type(Type.START)
+                .roundMaxNum(roundMaxNum)
+                .timeLimit(timeLimit)
+                .userIds(userIds)
+                .build());
+    }
+
+    // 제출 (키워드, 그림은 업로드가 끝나면 IMAGE 로 따로 기록)
+    public void submit(GameFlow gameFlow) {
+        append(gameFlow.getRoomId(), Event.builder()
+                .type(Type.SUBMIT)
+                .round(gameFlow.getRound())
+                .userId(gameFlow.getUserId())
+                .webSessionId(gameFlow.getWebSessionId())
+                .keywordIndex(gameFlow.getKeywordIndex())
+                .keyword(gameFlow.getKeyword())
+                .imagePath(gameFlow.getImagePath())
+                .imagePk(gameFlow.getImagePk())
+                .nickname(gameFlow.getNickname())
+                .userImgPath(gameFlow.getUserImgPath())
+                .build());
+    }
+
+    // 제출 취소
+    public void cancel(Long roomId, int round, Long userId) {
+        append(roomId, Event.builder().type(Type.CANCEL).round(round).userId(userId).build());
+    }
+
+    // 그림 업로드 완료
+    public void image(GameFlow gameFlow) {
+        append(gameFlow.getRoomId(), Event.builder()
+                .type(Type.IMAGE)
+                .round(gameFlow.getRound())
+                .userId(gameFlow.getUserId())
+                .imagePath(gameFlow.getImagePath())
+                .imagePk(gameFlow.getImagePk())
+                .build());
+    }
+
+    // 게임 도중 나간 유저
+    public void exit(Long roomId, Long userId) {
+        append(roomId, Event.builder().type(Type.EXIT).userId(userId).build());
+    }
+
+    // 재접속으로 유저의 webSessionId 변경
+    public void session(Long roomId, Long userId, String webSessionId) {
+        append(roomId, Event.builder().type(Type.SESSION).userId(userId).webSessionId(webSessionId).build());
+    }
+
+    // 라운드 시작
+    public void round(Long roomId, int round) {
+        append(roomId, Event.builder().type(Type.ROUND).round(round).build());
+    }
+
+    // 라운드 종료
+    public void lock(Long roomId, int round) {
+        append(roomId, Event.builder().type(Type.LOCK).round(round).build());
+    }
+
+    // 결과 페이지로 넘어가 GameFlow 가 모두 DB 에 저장됨 : 최종 상태만 남기도록 압축
+    public void flushed(Long roomId) {
+        if (!enabled || !Files.exists(segmentPath(roomId))) {
+            return;
+        }
+        RoomState state = replay(roomId);
+        if (state == null) {
+            return;
+        }
+        state.apply(Event.builder().type(Type.FLUSH).build());
+        compact(roomId, state);
+    }
+
+    // 게임 종료 시 기록 삭제
+    public void delete(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        closeSegment(roomId);
+        try {
+            Files.deleteIfExists(segmentPath(roomId));
+        } catch (IOException e) {
+            log.error(">>>>>>> [RoomJournal - delete] #{}번 방 기록 삭제 실패 : {}", roomId, e.getMessage());
+        }
+    }
+
+    // 기록이 남아있는 방 번호 (서버 재시작 시 복구 대상)
+    public List<Long> getRoomIds() {
+        List<Long> roomIds = new ArrayList<>();
+        if (!enabled) {
+            return roomIds;
+        }
+        try (Stream<Path> paths = Files.list(dir)) {
+            paths.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> {
+                        try {
+                            roomIds.add(Long.valueOf(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+                        } catch (NumberFormatException e) {
+                            log.info(">>>>>>> [RoomJournal - getRoomIds] 알 수 없는 파일 무시 : {}", name);
+                        }
+                    });
+        } catch (IOException e) {
+            log.error(">>>>>>> [RoomJournal - getRoomIds] journal 디렉토리 조회 실패 : {}", e.getMessage());
+        }
+        return roomIds;
+    }
+
+    // 기록을 처음부터 읽어 방의 마지막 상태 계산 (START 가 없으면 null)
+    // 기록 도중 서버가 죽어 마지막 줄이 깨졌다면 그 앞까지만 반영한다
+    public RoomState replay(Long roomId) {
+        Path path = segmentPath(roomId);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        RoomState state = new RoomState();
+        int lineNum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNum++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    state.apply(objectMapper.readValue(line, Event.class));
+                } catch (JsonProcessingException e) {
+                    log.error(">>>>>>> [RoomJournal - replay] #{}번 방 {}번째 줄부터 무시 : {}", roomId, lineNum, e.getOriginalMessage());
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.error(">>>>>>> [RoomJournal - replay] #{}번 방 기록 읽기 실패 : {}", roomId, e.getMessage());
+            return null;
+        }
+        return state.isStarted() ? state : null;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (Long roomId : segments.keySet()) {
+            closeSegment(roomId);
+        }
+    }
+
+    // 기록 파일에 한 줄 추가, 시작 기록(START)이 없는 방은 기록하지 않는다
+    private void append(Long roomId, Event event) {
+        if (!enabled || roomId == null) {
+            return;
+        }
+        try {
+            byte[] line = (objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8);
+            FileChannel channel = getSegment(roomId, event.getType() == Type.START);
+            if (channel == null) {
+                return;
+            }
+            synchronized (channel) {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (fsync) {
+                    channel.force(false);
+                }
+            }
+        } catch (IOException e) {
+            log.error(">>>>>>> [RoomJournal - append] #{}번 방 {} 기록 실패 : {}", roomId, event.getType(), e.getMessage());
+        }
+    }
+
+    // 최종 상태만 담은 새 파일로 교체
+    private void compact(Long roomId, RoomState state) {
+        Path path = segmentPath(roomId);
+        Path temp = dir.resolve(PREFIX + roomId + SUFFIX + ".tmp");
+        try {
+            List<String> lines = new ArrayList<>();
+            for (Event event : state.toEvents()) {
+                lines.add(objectMapper.writeValueAsString(event));
+            }
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            closeSegment(roomId);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info(">>>>>>> [RoomJournal - compact] #{}번 방 기록 압축 ({}줄)", roomId, lines.size());
+        } catch (IOException e) {
+            log.error(">>>>>>> [RoomJournal - compact] #{}번 방 기록 압축 실패 : {}", roomId, e.getMessage());
+        }
+    }
+
+    private FileChannel getSegment(Long roomId, boolean create) {
+        FileChannel channel = segments.get(roomId);
+        if (channel != null) {
+            return channel;
+        }
+        Path path = segmentPath(roomId);
+        if (!create && !Files.exists(path)) {
+            return null;
+        }
+        return segments.computeIfAbsent(roomId, id -> {
+            try {
+                return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                log.error(">>>>>>> [RoomJournal - getSegment] #{}번 방 기록 파일 열기 실패 : {}", roomId, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    private void closeSegment(Long roomId) {
+        FileChannel channel = segments.remove(roomId);
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error(">>>>>>> [RoomJournal - closeSegment] #{}번 방 기록 파일 닫기 실패 : {}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    private Path segmentPath(Long roomId) {
+        return dir.resolve(PREFIX + roomId + SUFFIX);
+    }
+
+    public enum Type {
+        START,      // 게임 시작 (최대 라운드, 라운드 시간, 참여 유저 id)
+        SUBMIT,     // 제출
+        CANCEL,     // 제출 취소
+        IMAGE,      // 그림 업로드 완료
+        EXIT,       // 게임 도중 나감
+        SESSION,    // 재접속으로 webSessionId 변경
+        ROUND,      // 라운드 시작
+        LOCK,       // 라운드 종료
+        FLUSH       // GameFlow 가 모두 DB 에 저장됨
+    }
+
+    // 기록 한 줄
+    @Getter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Event {
+        private Type type;
+        private Integer round;
+        private Long userId;
+        private String webSessionId;
+        private Integer roundMaxNum;
+        private Long timeLimit;
+        private List<Long> userIds;
+        private Integer keywordIndex;
+        private String keyword;
+        private String imagePath;
+        private Long imagePk;
+        private String nickname;
+        private String userImgPath;
+    }
+
+    // 기록을 처음부터 반영한 방의 상태
+    @Getter
+    public static class RoomState {
+        private boolean started = false;
+        private int roundMaxNum;
+        private long timeLimit;
+        private List<Long> userIds = new ArrayList<>();
+        private final Set<Long> exited = new LinkedHashSet<>();
+        private int currentRound = 1;
+        private int lockedRound = 0;
+        private boolean flushed = false;
+
+        // "라운드:유저 id" -> 취소되지 않은 제출
+        private final Map<String, Event> submits = new LinkedHashMap<>();
+
+        private void apply(Event event) {
+            switch (event.getType()) {
+                case START -> {
+                    started = true;
+                    roundMaxNum = event.getRoundMaxNum();
+                    timeLimit = event.getTimeLimit();
+                    userIds = event.getUserIds();
+                }
+                case SUBMIT -> submits.put(key(event), event);
+                case CANCEL -> submits.remove(key(event));
+                case IMAGE -> submits.computeIfPresent(key(event), (key, submit) -> submit.toBuilder()
+                        .imagePath(event.getImagePath())
+                        .imagePk(event.getImagePk())
+                        .build());
+                case EXIT -> exited.add(event.getUserId());
+                case SESSION -> submits.replaceAll((key, submit) -> event.getUserId().equals(submit.getUserId())
+                        ? submit.toBuilder().webSessionId(event.getWebSessionId()).build()
+                        : submit);
+                case ROUND -> currentRound = Math.max(currentRound, event.getRound());
+                case LOCK -> lockedRound = Math.max(lockedRound, event.getRound());
+                case FLUSH -> flushed = true;
+            }
+        }
+
+        // 최종 상태를 다시 기록으로 (압축용)
+        private List<Event> toEvents() {
+            List<Event> events = new ArrayList<>();
+            events.add(Event.builder()
+                    .type(Type.START)
+                    .roundMaxNum(roundMaxNum)
+                    .timeLimit(timeLimit)
+                    .userIds(userIds)
+                    .build());
+            events.addAll(submits.values());
+            for (Long userId : exited) {
+                events.add(Event.builder().type(Type.EXIT).userId(userId).build());
+            }
+            events.add(Event.builder().type(Type.ROUND).round(currentRound).build());
+            if (lockedRound > 0) {
+                events.add(Event.builder().type(Type.LOCK).round(lockedRound).build());
+            }
+            if (flushed) {
+                events.add(Event.builder().type(Type.FLUSH).build());
+            }
+            return events;
+        }
+
+        // 제출 기록을 GameFlow 로 변환
+        public List<GameFlow> toGameFlows(Long roomId) {
+            List<GameFlow> gameFlowList = new ArrayList<>();
+            for (Event submit : submits.values()) {
+                gameFlowList.add(GameFlow.builder()
+                        .roomId(roomId)
+                        .round(submit.getRound())
+                        .keywordIndex(submit.getKeywordIndex())
+                        .keyword(submit.getKeyword())
+                        .imagePath(submit.getImagePath())
+                        .imagePk(submit.getImagePk())
+                        .nickname(submit.getNickname())
+                        .webSessionId(submit.getWebSessionId())
+                        .userImgPath(submit.getUserImgPath())
+                        .userId(submit.getUserId())
+                        .isSubmitted(true)
+                        .build());
+            }
+            return gameFlowList;
+        }
+
+        private static String key(Event event) {
+            return event.getRound() + ":" + event.getUserId();
+        }
+    }
+}
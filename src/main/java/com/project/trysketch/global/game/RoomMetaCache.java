@@ -0,0 +1,163 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.entity.GameRoom;
+import com.project.trysketch.global.exception.CustomException;
+import com.project.trysketch.global.exception.StatusMsgCode;
+import com.project.trysketch.global.utill.AfterCommit;
+import com.project.trysketch.repository.GameRoomRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+// 1. 기능   : 방 설정(방장, 난이도, 라운드 시간, 최대 라운드, 게임 여부, 결과창 순번) 메모리 캐시
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 캐시에 없으면 DB 에서 한번 읽어 채운다 (read-through).
+//             방 설정을 바꾼 쪽은 바꾼 값만 update* 로 넘기고, 트랜잭션이 커밋된 후에 캐시의 최신 값에 그 값만 반영된다
+//             (이전에 읽은 방 설정을 통째로 덮어쓰면 그 사이 다른 요청이 바꾼 값이 사라진다).
+//             게임 여부, 난이도는 빠른 입장 인덱스(OpenSeatIndex)에도 같이 반영한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RoomMetaCache {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final OpenSeatIndex openSeatIndex;
+
+    // 방 번호 -> 방 설정
+    private final Map<Long, RoomMeta> rooms = new ConcurrentHashMap<>();
+
+    // 방 설정 조회 (없는 방이면 GAMEROOM_NOT_FOUND)
+    public RoomMeta get(Long roomId) {
+        RoomMeta roomMeta = rooms.get(roomId);
+        if (roomMeta != null) {
+            return roomMeta;
+        }
+        GameRoom gameRoom = gameRoomRepository.findById(roomId).orElseThrow(
+                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
+        );
+        roomMeta = new RoomMeta(gameRoom);
+        RoomMeta cached = rooms.putIfAbsent(roomId, roomMeta);
+        if (cached != null) {
+            return cached;
+        }
+        openSeatIndex.updateRoom(roomId, roomMeta.isPlaying(), roomMeta.getDifficulty());
+        return roomMeta;
+    }
+
+    // 새로 만든 방의 설정 등록 (커밋 후)
+    public void create(GameRoom gameRoom) {
+        RoomMeta roomMeta = new RoomMeta(gameRoom);
+        AfterCommit.run(() -> {
+            rooms.put(roomMeta.getId(), roomMeta);
+            openSeatIndex.updateRoom(roomMeta.getId(), roomMeta.isPlaying(), roomMeta.getDifficulty());
+        });
+    }
+
+    // 방장 변경 (커밋 후)
+    public void updateHost(Long roomId, Long hostId) {
+        update(roomId, roomMeta -> roomMeta.withHostId(hostId));
+    }
+
+    // 난이도 변경 (커밋 후)
+    public void updateDifficulty(Long roomId, String difficulty) {
+        update(roomId, roomMeta -> roomMeta.withDifficulty(difficulty));
+    }
+
+    // 라운드 시간 변경 (커밋 후)
+    public void updateTimeLimit(Long roomId, Long timeLimit) {
+        update(roomId, roomMeta -> roomMeta.withTimeLimit(timeLimit));
+    }
+
+    // 게임 시작 : 게임 여부, 최대 라운드 변경 (커밋 후)
+    public void updateStart(Long roomId, Integer roundMaxNum) {
+        update(roomId, roomMeta -> roomMeta.withPlaying(true).withRoundMaxNum(roundMaxNum));
+    }
+
+    // 게임 여부 변경 (커밋 후)
+    public void updatePlaying(Long roomId, boolean isPlaying) {
+        update(roomId, roomMeta -> roomMeta.withPlaying(isPlaying));
+    }
+
+    // 결과창 순번 변경 (커밋 후)
+    public void updateResultCount(Long roomId, int resultCount) {
+        update(roomId, roomMeta -> roomMeta.withResultCount(resultCount));
+    }
+
+    // 방 삭제 시 캐시 삭제 (커밋 후)
+    public void evict(Long roomId) {
+        AfterCommit.run(() -> {
+            rooms.remove(roomId);
+            openSeatIndex.remove(roomId);
+        });
+    }
+
+    // 캐시에 있는 최신 방 설정에 바뀐 값만 반영 (커밋 후), 캐시에 없으면 다음 조회 때 DB 에서 읽는다
+    // 빠른 입장 인덱스도 같은 순서로 반영되도록 캐시를 바꾸는 중에 같이 반영한다
+    private void update(Long roomId, UnaryOperator<RoomMeta> change) {
+        AfterCommit.run(() -> rooms.computeIfPresent(roomId, (id, roomMeta) -> {
+            RoomMeta changed = change.apply(roomMeta);
+            openSeatIndex.updateRoom(id, changed.isPlaying(), changed.getDifficulty());
+            return changed;
+        }));
+    }
+
+    // 방 설정, 값을 바꿀 때는 새 객체를 만든다
+    @Getter
+    public static class RoomMeta {
+        private final Long id;
+        private final Long hostId;
+        private final String difficulty;
+        private final Long timeLimit;
+        private final Integer roundMaxNum;
+        private final boolean isPlaying;
+        private final int resultCount;
+
+        public RoomMeta(GameRoom gameRoom) {
+            this(gameRoom.getId(), gameRoom.getHostId(), gameRoom.getDifficulty(), gameRoom.getTimeLimit(),
+                    gameRoom.getRoundMaxNum(), gameRoom.isPlaying(), gameRoom.getResultCount());
+        }
+
+        private RoomMeta(Long id, Long hostId, String difficulty, Long timeLimit, Integer roundMaxNum, boolean isPlaying, int resultCount) {
+            this.id = id;
+            this.hostId = hostId;
+            this.difficulty = difficulty;
+            this.timeLimit = timeLimit;
+            this.roundMaxNum = roundMaxNum;
+            this.isPlaying = isPlaying;
+            this.resultCount = resultCount;
+        }
+
+        // 방장 여부
+        public boolean isHost(String userId) {
+            return hostId.toString().equals(userId);
+        }
+
+        public RoomMeta withHostId(Long hostId) {
+            return new RoomMeta(id, hostId, difficulty, timeLimit, roundMaxNum, isPlaying, resultCount);
+        }
+
+        public RoomMeta withPlaying(boolean isPlaying) {
+            return new RoomMeta(id, hostId, difficulty, timeLimit, roundMaxNum, isPlaying, resultCount);
+        }
+
+        public RoomMeta withRoundMaxNum(Integer roundMaxNum) {
+            return new RoomMeta(id, hostId, difficulty, timeLimit, roundMaxNum, isPlaying, resultCount);
+        }
+
+        public RoomMeta withDifficulty(String difficulty) {
+            return new RoomMeta(id, hostId, difficulty, timeLimit, roundMaxNum, isPlaying, resultCount);
+        }
+
+        public RoomMeta withTimeLimit(Long timeLimit) {
+            return new RoomMeta(id, hostId, difficulty, timeLimit, roundMaxNum, isPlaying, resultCount);
+        }
+
+        public RoomMeta withResultCount(int resultCount) {
+            return new RoomMeta(id, hostId, difficulty, timeLimit, roundMaxNum, isPlaying, resultCount);
+        }
+    }
+}
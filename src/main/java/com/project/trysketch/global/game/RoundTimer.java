@@ -0,0 +1,118 @@
+package com.project.trysketch.global.game;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 1. 기능   : 서버 기준 라운드 마감 타이머
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : 모든 방이 하나의 HashedWheelTimer 를 공유하고, 방마다 진행중인 라운드의 마감만 등록한다.
+//             마감 작업은 타이머 스레드를 막지 않도록 해당 방의 RoomEventLoop 로 넘겨서 실행한다
+@Slf4j
+@Component
+public class RoundTimer {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(r -> {
+        Thread thread = new Thread(r, "round-timer");
+        thread.setDaemon(true);
+        return thread;
+    }, 100, TimeUnit.MILLISECONDS);
+
+    private final RoomEventLoop roomEventLoop;
+    private final long graceMillis;
+
+    // 방 번호 -> 해당 방의 라운드 시간, 진행중인 라운드 마감
+    private final Map<Long, RoomTimer> rooms = new ConcurrentHashMap<>();
+
+    public RoundTimer(RoomEventLoop roomEventLoop,
+                      @Value("${game.round.grace-millis:3000}") long graceMillis) {
+        this.roomEventLoop = roomEventLoop;
+        this.graceMillis = graceMillis;
+    }
+
+    // 게임 시작 시 라운드 시간 등록
+    public void open(Long roomId, long timeLimit) {
+        RoomTimer old = rooms.put(roomId, new RoomTimer(timeLimit));
+        if (old != null) {
+            old.cancel();
+        }
+    }
+
+    // 라운드 마감 등록 후 마감 시각(epoch ms) 반환, 마감 시 onDeadline 실행
+    // 클라이언트의 전송 지연을 고려해 라운드 시간 + grace 후에 마감한다
+    public long schedule(Long roomId, int round, Runnable onDeadline) {
+        RoomTimer room = rooms.get(roomId);
+        if (room == null) {
+            return 0;
+        }
+        synchronized (room) {
+            if (room.round >= round) {
+                return room.deadline;
+            }
+            room.cancel();
+            room.round = round;
+            room.deadline = System.currentTimeMillis() + room.timeLimit;
+            room.timeout = timer.newTimeout(timeout -> roomEventLoop.execute(roomId, onDeadline::run),
+                    room.timeLimit + graceMillis, TimeUnit.MILLISECONDS);
+            log.info(">>>>>>> [RoundTimer - schedule] #{}번 방 {}라운드 마감 등록 ({}ms)", roomId, round, room.timeLimit);
+            return room.deadline;
+        }
+    }
+
+    // 라운드가 마감 전에 끝났다면 마감 취소
+    public void cancel(Long roomId, int round) {
+        RoomTimer room = rooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            if (room.round == round) {
+                room.cancel();
+            }
+        }
+    }
+
+    // 진행중인 라운드의 마감 시각 (없으면 0)
+    public long getDeadline(Long roomId) {
+        RoomTimer room = rooms.get(roomId);
+        return room == null ? 0 : room.deadline;
+    }
+
+    // 게임 종료 시 타이머 삭제
+    public void close(Long roomId) {
+        RoomTimer room = rooms.remove(roomId);
+        if (room != null) {
+            room.cancel();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.stop();
+    }
+
+    // 방 하나의 라운드 타이머
+    private static class RoomTimer {
+        private final long timeLimit;       // 라운드 시간 (ms)
+        private int round;                  // 마감이 등록된 라운드
+        private volatile long deadline;     // 마감 시각 (epoch ms)
+        private Timeout timeout;
+
+        private RoomTimer(long timeLimit) {
+            this.timeLimit = timeLimit;
+        }
+
+        private void cancel() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.global.utill.AfterCommit;
+import com.project.trysketch.repository.GameRoomUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 1. 기능   : 방 자리(최대 8명) 배정
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 자리 수가 바뀌면 OpenSeatIndex 에도 반영한다.
+//             방마다 8bit 자리 표시(mask)를 두고 빈 자리를 CAS 로 잡는다. DB 에 저장하기 전에 자리부터 잡으므로
+//             동시에 여러 명이 들어와도 8명을 넘지 않고, 풀방이면 DB 조회 없이 바로 거절한다.
+//             입장 트랜잭션이 롤백되면 바로, 방을 나가면 커밋 후에 자리를 비운다.
+//             메모리에 없는 방(서버 재시작 전에 만들어진 방)은 처음 찾을 때 DB 의 유저로 채운다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SeatAllocator {
+
+    public static final int MAX_SEATS = 8;
+    private static final int FULL = (1 << MAX_SEATS) - 1;
+
+    private final GameRoomUserRepository gameRoomUserRepository;
+    private final OpenSeatIndex openSeatIndex;
+
+    // 방 번호 -> 자리 현황
+    private final Map<Long, Seats> rooms = new ConcurrentHashMap<>();
+
+    // userId -> 자리를 잡은 방 번호
+    private final Map<Long, Long> userRooms = new ConcurrentHashMap<>();
+
+    // 방 생성 시 빈 방 등록
+    public void open(Long roomId) {
+        rooms.putIfAbsent(roomId, new Seats());
+    }
+
+    // 자리 잡기 : 자리 번호 반환 (풀방이면 -1), 이미 앉아 있는 유저면 그 자리
+    // 같은 유저의 요청이 동시에 들어오면(더블 클릭) 먼저 등록한 자리만 남기고 나머지는 돌려준다
+    // 다른 방에 자리가 남아 있던 유저라면 그 자리는 커밋 후에 비운다
+    public int reserve(Long roomId, Long userId) {
+        Seats seats = getSeats(roomId);
+        Integer seated = seats.users.get(userId);
+        if (seated != null) {
+            return seated;
+        }
+
+        int seat = seats.take();
+        if (seat < 0) {
+            log.info(">>>>>>> [SeatAllocator - reserve] #{}번 방 풀방 / userId : {}", roomId, userId);
+            return -1;
+        }
+        Integer claimed = seats.users.putIfAbsent(userId, seat);
+        if (claimed != null) {
+            seats.give(seat);
+            return claimed;
+        }
+        openSeatIndex.updateSeats(roomId, seats.count());
+        Long before = userRooms.put(userId, roomId);
+        AfterCommit.onRollback(() -> free(roomId, userId));
+        if (before != null && !before.equals(roomId)) {
+            release(before, userId);
+        }
+        return seat;
+    }
+
+    // 자리를 잡은 인원 수
+    public int getSeatedCount(Long roomId) {
+        Seats seats = rooms.get(roomId);
+        return seats == null ? 0 : seats.count();
+    }
+
+    // 방을 나갈 때 자리 비우기 (커밋 후)
+    public void release(Long roomId, Long userId) {
+        AfterCommit.run(() -> free(roomId, userId));
+    }
+
+    // 방 삭제 시 자리 현황 삭제 (커밋 후)
+    public void close(Long roomId) {
+        AfterCommit.run(() -> {
+            Seats seats = rooms.remove(roomId);
+            openSeatIndex.remove(roomId);
+            if (seats != null) {
+                seats.users.keySet().forEach(userId -> userRooms.remove(userId, roomId));
+            }
+        });
+    }
+
+    private void free(Long roomId, Long userId) {
+        Seats seats = rooms.get(roomId);
+        if (seats == null) {
+            return;
+        }
+        Integer seat = seats.users.remove(userId);
+        if (seat != null) {
+            seats.give(seat);
+            userRooms.remove(userId, roomId);
+            openSeatIndex.updateSeats(roomId, seats.count());
+        }
+    }
+
+    // 메모리에 없는 방은 DB 에 있는 유저로 자리 채우기
+    private Seats getSeats(Long roomId) {
+        Seats seats = rooms.get(roomId);
+        if (seats != null) {
+            return seats;
+        }
+        seats = new Seats();
+        List<Long> userIds = gameRoomUserRepository.findUserIdsByGameRoomId(roomId);
+        for (Long userId : userIds) {
+            int seat = seats.take();
+            if (seat < 0) {
+                break;
+            }
+            seats.users.put(userId, seat);
+        }
+        Seats cached = rooms.putIfAbsent(roomId, seats);
+        if (cached != null) {
+            return cached;
+        }
+        seats.users.keySet().forEach(userId -> userRooms.putIfAbsent(userId, roomId));
+        openSeatIndex.updateSeats(roomId, seats.count());
+        return seats;
+    }
+
+    // 방 하나의 자리 현황
+    static class Seats {
+        private final AtomicInteger mask = new AtomicInteger();                 // i 번째 bit : i 번 자리 사용 여부
+        private final Map<Long, Integer> users = new ConcurrentHashMap<>();     // userId -> 자리 번호
+
+        // 가장 앞의 빈 자리 잡기 (없으면 -1)
+        int take() {
+            while (true) {
+                int current = mask.get();
+                if (current == FULL) {
+                    return -1;
+                }
+                int seat = Integer.numberOfTrailingZeros(~current);
+                if (mask.compareAndSet(current, current | (1 << seat))) {
+                    return seat;
+                }
+            }
+        }
+
+        void give(int seat) {
+            mask.getAndUpdate(current -> current & ~(1 << seat));
+        }
+
+        int count() {
+            return Integer.bitCount(mask.get());
+        }
+    }
+}
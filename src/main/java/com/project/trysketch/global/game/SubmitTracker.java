@@ -0,0 +1,184 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.global.exception.CustomException;
+import com.project.trysketch.global.exception.StatusMsgCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 1. 기능   : 라운드별 제출 현황을 DB 잠금 없이 메모리에서 관리
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : 방마다 유저별 slot(0 ~ 7)을 부여하고, 라운드별 제출 여부를 bit 로 저장한다.
+//             제출 인원 = (제출한 유저 bit & 남아있는 유저 bit) 의 bit 수.
+//             slot 은 유저 id 로 관리하므로 재접속으로 webSessionId 가 바뀌어도 같은 slot 을 쓴다
+@Slf4j
+@Component
+public class SubmitTracker {
+
+    // 방 번호 -> 해당 방의 제출 현황
+    private final Map<Long, RoomSubmit> rooms = new ConcurrentHashMap<>();
+
+    // 게임 시작 시 제출 현황 생성, 참여 유저 순서대로 slot 부여
+    public void open(Long roomId, int roundMaxNum, List<Long> userIds) {
+        Map<Long, Integer> slots = new HashMap<>();
+        int activeMask = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            if (userIds.get(i) != null) {
+                slots.put(userIds.get(i), i);
+                activeMask |= 1 << i;
+            }
+        }
+        rooms.put(roomId, new RoomSubmit(slots, activeMask, roundMaxNum));
+        log.info(">>>>>>> [SubmitTracker - open] #{}번 방 / 참여 인원 : {}", roomId, slots.size());
+    }
+
+    // 게임 종료 시 제출 현황 삭제
+    public void close(Long roomId) {
+        rooms.remove(roomId);
+    }
+
+    public boolean isOpen(Long roomId) {
+        return rooms.containsKey(roomId);
+    }
+
+    // 다음 라운드 시작
+    public void openRound(Long roomId, int round) {
+        RoomSubmit room = getRoom(roomId);
+        room.currentRound = Math.max(room.currentRound, round);
+    }
+
+    // 라운드 종료 (전원 제출 또는 마감), 이후 해당 라운드의 제출 / 취소는 받지 않는다
+    public void lockRound(Long roomId, int round) {
+        RoomSubmit room = getRoom(roomId);
+        room.lockedRound = Math.max(room.lockedRound, round);
+    }
+
+    // 종료된 라운드인지 여부
+    public boolean isLocked(Long roomId, int round) {
+        return round <= getRoom(roomId).lockedRound;
+    }
+
+    // 최대 라운드
+    public int getRoundMaxNum(Long roomId) {
+        return getRoom(roomId).submitMask.length() - 1;
+    }
+
+    // 현재 진행중인 라운드
+    public int getCurrentRound(Long roomId) {
+        return getRoom(roomId).currentRound;
+    }
+
+    // 제출 <-> 취소 전환 후 전환된 결과를 반환 (이미 끝난 라운드는 변경 불가)
+    public SubmitCount toggle(Long roomId, int round, Long userId) {
+        RoomSubmit room = getRoom(roomId);
+        if (round <= room.lockedRound) {
+            throw new CustomException(StatusMsgCode.GAME_NOT_ONLINE);
+        }
+        int bit = 1 << getSlot(room, userId);
+        int before = room.submitMask.getAndUpdate(checkRound(room, round), mask -> mask ^ bit);
+        return count(room, round, (before & bit) == 0);
+    }
+
+    // 제출 처리 (이미 제출했다면 false 반환), 라운드 마감 시 미제출 유저를 대신 제출할 때 사용
+    public boolean forceSubmit(Long roomId, int round, Long userId) {
+        RoomSubmit room = getRoom(roomId);
+        int bit = 1 << getSlot(room, userId);
+        int before = room.submitMask.getAndUpdate(checkRound(room, round), mask -> mask | bit);
+        return (before & bit) == 0;
+    }
+
+    // 게임에 남아있지만 아직 제출하지 않은 유저 (유저 id -> slot)
+    public Map<Long, Integer> getMissing(Long roomId, int round) {
+        RoomSubmit room = getRoom(roomId);
+        int missing = room.activeMask.get() & ~room.submitMask.get(checkRound(room, round));
+        Map<Long, Integer> missingSlots = new HashMap<>();
+        room.slots.forEach((userId, slot) -> {
+            if ((missing & (1 << slot)) != 0) {
+                missingSlots.put(userId, slot);
+            }
+        });
+        return missingSlots;
+    }
+
+    // 제출 인원 조회
+    public SubmitCount getCount(Long roomId, int round) {
+        RoomSubmit room = getRoom(roomId);
+        return count(room, checkRound(room, round), false);
+    }
+
+    // 게임 도중 나간 유저는 제출 인원과 총 인원에서 제외
+    public void leave(Long roomId, Long userId) {
+        RoomSubmit room = rooms.get(roomId);
+        if (room == null || userId == null || !room.slots.containsKey(userId)) {
+            return;
+        }
+        int bit = 1 << room.slots.get(userId);
+        room.activeMask.updateAndGet(mask -> mask & ~bit);
+        log.info(">>>>>>> [SubmitTracker - leave] #{}번 방 / 남은 인원 : {}", roomId, Integer.bitCount(room.activeMask.get()));
+    }
+
+    private SubmitCount count(RoomSubmit room, int round, boolean submitted) {
+        int active = room.activeMask.get();
+        int trueCount = Integer.bitCount(room.submitMask.get(round) & active);
+        return new SubmitCount(trueCount, Integer.bitCount(active), submitted);
+    }
+
+    private RoomSubmit getRoom(Long roomId) {
+        RoomSubmit room = rooms.get(roomId);
+        if (room == null) {
+            throw new CustomException(StatusMsgCode.GAME_NOT_ONLINE);
+        }
+        return room;
+    }
+
+    private int getSlot(RoomSubmit room, Long userId) {
+        Integer slot = room.slots.get(userId);
+        if (slot == null) {
+            throw new CustomException(StatusMsgCode.GAME_ROOM_USER_NOT_FOUND);
+        }
+        return slot;
+    }
+
+    private int checkRound(RoomSubmit room, int round) {
+        if (round <= 0 || round >= room.submitMask.length()) {
+            throw new CustomException(StatusMsgCode.GAME_NOT_ONLINE);
+        }
+        return round;
+    }
+
+    // 방 하나의 제출 현황
+    private static class RoomSubmit {
+        private final Map<Long, Integer> slots;         // 유저 id -> slot
+        private final AtomicInteger activeMask;         // 게임에 남아있는 유저 bit
+        private final AtomicIntegerArray submitMask;    // 라운드별 제출한 유저 bit (index : 라운드)
+        private volatile int currentRound = 1;          // 현재 라운드
+        private volatile int lockedRound = 0;           // 종료된 마지막 라운드
+
+        private RoomSubmit(Map<Long, Integer> slots, int activeMask, int roundMaxNum) {
+            this.slots = slots;
+            this.activeMask = new AtomicInteger(activeMask);
+            this.submitMask = new AtomicIntegerArray(roundMaxNum + 1);
+        }
+    }
+
+    // 제출 인원 / 총 인원
+    @Getter
+    @RequiredArgsConstructor
+    public static class SubmitCount {
+        private final int trueCount;        // 현재 제출 한 인원
+        private final int maxTrueCount;     // 해당 방에서 제출할 총 인원
+        private final boolean submitted;    // 요청한 유저의 제출 여부
+
+        // 전체 제출 여부
+        public boolean isCompleted() {
+            return maxTrueCount > 0 && trueCount == maxTrueCount;
+        }
+    }
+}
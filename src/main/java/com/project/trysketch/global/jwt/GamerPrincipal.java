@@ -0,0 +1,29 @@
+package com.project.trysketch.global.jwt;
+
+import com.project.trysketch.dto.GamerEnum;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// 1. 기능   : STOMP 세션에 저장되는 게이머 정보 (회원, 비회원 공통)
+// 2. 작성자 : 서혁수
+// 3. 참고사항 : CONNECT 때 한번 검증한 getGamerInfo 결과(id, nickname, imgUrl)를 담는다. getName 은 게이머 id
+public class GamerPrincipal implements Principal {
+
+    private final Map<String, String> gamerInfo;
+
+    public GamerPrincipal(Map<String, String> gamerInfo) {
+        this.gamerInfo = Collections.unmodifiableMap(new HashMap<>(gamerInfo));
+    }
+
+    @Override
+    public String getName() {
+        return gamerInfo.get(GamerEnum.ID.key());
+    }
+
+    // getGamerInfo 와 같은 형태로 반환 (호출한 쪽에서 수정해도 세션 정보는 그대로)
+    public HashMap<String, String> getGamerInfo() {
+        return new HashMap<>(gamerInfo);
+    }
+}
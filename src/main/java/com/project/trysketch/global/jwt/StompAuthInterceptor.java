@@ -0,0 +1,47 @@
+package com.project.trysketch.global.jwt;
+
+import com.project.trysketch.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+// 1. 기능   : STOMP CONNECT 시 한번만 유저 검증
+// 2. 작성자 : 서혁수
+// 3. 참고사항 : CONNECT 헤더의 token(회원 토큰 또는 비회원 정보)으로 getGamerInfo 를 한번 호출하고
+//             결과를 GamerPrincipal 로 세션에 저장한다. 이후 메시지는 세션의 Principal 을 사용한다.
+//             token 헤더 없이 연결한 클라이언트는 기존처럼 메시지마다 token 으로 검증한다
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+    private static final String TOKEN_HEADER = "token";
+
+    private final UserService userService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String token = accessor.getFirstNativeHeader(TOKEN_HEADER);
+        if (token == null || token.isBlank()) {
+            log.info(">>>>>>> [StompAuthInterceptor] token 헤더 없이 연결 : 세션 {}", accessor.getSessionId());
+            return message;
+        }
+
+        // 검증 실패 시 CustomException 으로 CONNECT 가 거절된다
+        GamerPrincipal principal = new GamerPrincipal(userService.getGamerInfo(token));
+        accessor.setUser(principal);
+        log.info(">>>>>>> [StompAuthInterceptor] 세션 {} / 게이머 id : {}", accessor.getSessionId(), principal.getName());
+        return message;
+    }
+}
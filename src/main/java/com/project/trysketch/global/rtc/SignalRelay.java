@@ -0,0 +1,93 @@
+package com.project.trysketch.global.rtc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.io.IOException;
+import java.io.StringWriter;
+
+// 1. 기능   : offer / answer / candidate 메시지 전달용 파서
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : Message 객체로 변환하지 않고 스트리밍 파서로 type, receiver 만 읽는다.
+//             sdp, candidate 는 받은 JSON 문자열 그대로 잘라서 전달하고 sender 만 붙인다 (token 등 나머지 필드는 버린다)
+@Getter
+@RequiredArgsConstructor
+public class SignalRelay {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final String type;        // 메시지 타입
+    private final String receiver;    // 받는 사람
+    private final String sdp;         // sdp 정보 (원본 JSON)
+    private final String candidate;   // 상태 (원본 JSON)
+
+    // 메시지에서 전달에 필요한 필드만 읽기 (최상위가 JSON 객체가 아니면 null)
+    public static SignalRelay read(String payload) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String type = null;
+            String receiver = null;
+            String sdp = null;
+            String candidate = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "type" -> type = parser.getValueAsString();
+                    case "receiver" -> receiver = parser.getValueAsString();
+                    case "sdp" -> sdp = raw(parser, payload);
+                    case "candidate" -> candidate = raw(parser, payload);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new SignalRelay(type, receiver, sdp, candidate);
+        }
+    }
+
+    // 받는 사람에게 보낼 메시지 : { type, sender, receiver, sdp, candidate }
+    public String write(String sender) throws IOException {
+        StringWriter writer = new StringWriter(64 + length(sdp) + length(candidate));
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeStringField("sender", sender);
+            generator.writeStringField("receiver", receiver);
+            if (sdp != null) {
+                generator.writeFieldName("sdp");
+                generator.writeRawValue(sdp);
+            }
+            if (candidate != null) {
+                generator.writeFieldName("candidate");
+                generator.writeRawValue(candidate);
+            }
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    // 현재 값의 원본 JSON 문자열 (null 이면 null)
+    private static String raw(JsonParser parser, String payload) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        int start = (int) parser.getTokenLocation().getCharOffset();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+        } else {
+            // 문자열, 숫자는 끝까지 읽어야 위치가 값의 끝으로 이동한다
+            parser.getText();
+        }
+        int end = (int) parser.getCurrentLocation().getCharOffset();
+        return payload.substring(start, end);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.trysketch.global.rtc;
 
+import com.project.trysketch.global.game.RoomEventLoop;
 import com.project.trysketch.service.GameRoomService;
 import com.project.trysketch.service.GameService;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,6 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 // 1. 기능   : Signaling Server 역할
 // 2. 작성자 : 안은솔
@@ -26,8 +26,13 @@ public class SignalingHandler extends TextWebSocketHandler {
     @Autowired
     private GameService gameService;
 
-    // 세션 정보 저장 -> { webSessionId1 : 세션객체, webSessionId2 : 세션객체, ... }
-    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // 방 단위 이벤트 루프 : 방의 상태를 바꾸는 메시지는 같은 방끼리 순서대로 실행된다
+    @Autowired
+    private RoomEventLoop roomEventLoop;
+
+    // 세션 정보 저장 -> { webSessionId1 : 세션객체, ... }, { roomId : [ webSessionId1, ... ] }
+    @Autowired
+    private SignalingSessionRegistry sessions;
 
     // 시그널링에 사용되는 메시지 타입 :
     // SDP Offer 메시지
@@ -59,6 +64,9 @@ public class SignalingHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
         log.info(">>> [ws] 클라이언트 접속 : 세션 - {}", session);
+
+        // 이후 이 세션으로 보내는 메시지는 모두 세션별 보내기 대기열을 거친다
+        sessions.open(session);
     }
 
 
@@ -66,6 +74,13 @@ public class SignalingHandler extends TextWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage textMessage) throws Exception {
         try {
+            // offer, answer, candidate 는 type, receiver 만 읽고 sdp, candidate 는 그대로 전달
+            SignalRelay signalRelay = SignalRelay.read(textMessage.getPayload());
+            if (signalRelay != null && isRelayType(signalRelay.getType())) {
+                relay(session, signalRelay);
+                return;
+            }
+
             // 웹 소켓으로부터 전달받은 메시지를 deserialization(JSON -> Java Object)
             Message message = Utils.getObject(textMessage.getPayload());
             log.info(">>> [ws] 시작!!! 세션 객체 {}", session);
@@ -84,72 +99,8 @@ public class SignalingHandler extends TextWebSocketHandler {
 
                     log.info(">>> [ws] {} 가 #{}번 방에 들어감", webSessionId, roomId);
 
-                    // 세션 저장, user 정보 저장 -> 방 입장
-                    sessions.put(webSessionId, session);
-
-                    // gameroomId 와 token 에 있는 userId 로 GameRoomRepository 에서 해당 gameRoomUser 데이터를 찾고
-                    // 해당 webSessionId 로 접속한 sessionId를 update
-                    gameRoomService.updateWebSessionId(roomId, token, webSessionId);
-
-
-                    // 해당 방에 다른 유저가 있었다면 offer-answer 를 위해 유저 리스트를 만들어 클라이언트에 전달
-
-                    // 본인을 제외한 해당 방의 다른 유저들
-                    // 예) [ { id : webSessionId1 }, { id : webSessionId2 }, ...  ]
-                    log.info(">>> [ws] 본인 {} 을 제외한 #{}번 방의 다른 유저들 {}", webSessionId, roomId, gameRoomService.getAllGameRoomUsersExceptMe(roomId, webSessionId));
-
-                    // rtc/all_users 라는 타입으로, 본인에게 메시지 전달
-                    session.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                            .type(MSG_TYPE_ALL_USERS)
-                            .allUsers(gameRoomService.getAllGameRoomUsersExceptMe(roomId, webSessionId))
-                            .sender(webSessionId).build())));
-
-                    // 본인을 포함한 현재 방의 전체 유저 정보
-                    // 예) [ { userId: 2, nickname: "닉네임", imgUrl: "avatar.png", isHost: true, isReady: true, socketId: "qw5lkvtn"}, { ... } ]
-                    log.info(">>> [ws] 본인 {} 을 포함한 #{}번 방의 다른 유저들 {}", webSessionId, roomId, gameRoomService.getAllGameRoomUsers(roomId));
-
-                    // ingame/attendee 라는 타입으로, 해당 방의 전체 유저에게 메시지 전달
-                    try {
-                        for (WebSocketSession webSocketSession : getRoomSessionList(roomId)) {
-                            log.info(">>> [ws] #{}번 방에 있는 전체 유저의 세션 객체 리스트 {}", roomId, webSocketSession);
-                            webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                    .type(MSG_TYPE_ATTENDEE)
-                                    .attendee(gameRoomService.getAllGameRoomUsers(roomId))
-                                    .sender(webSessionId).build())));
-                        }
-                        log.info(">>> [ws] 본인의 정보를 해당 방 전체 유저에게 전달 성공!!");
-                    } catch (Exception e) {
-                        log.info(">>> 에러 발생 : 해당 방 전체 유저에게 메시지 전달 실패 {}", e.getMessage());
-                    }
-                    break;
-
-                // 클라이언트에게서 받은 메시지 타입에 따른 signal 프로세스
-                case MSG_TYPE_OFFER:
-                case MSG_TYPE_ANSWER:
-                case MSG_TYPE_CANDIDATE:
-
-                    // 전달받은 메시지로부터 candidate, sdp, receiver 를 저장
-                    Object candidate = message.getCandidate();
-                    Object sdp = message.getSdp();
-                    String receiver = message.getReceiver();   // 클라이언트에서 보내주는 1명의 receiver
-                    log.info(">>> [ws] receiver {}", receiver);
-
-                    // sessions 에서 receiver 를 찾아 메시지 전달
-                    sessions.values().forEach(s -> {
-                        try {
-                            if(s.getId().equals(receiver)) {
-                                s.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                        .type(message.getType())
-                                        .sdp(sdp)
-                                        .candidate(candidate)
-                                        .sender(webSessionId)
-                                        .receiver(receiver).build())));
-                            }
-                        } catch (Exception e) {
-                            log.info(">>> 에러 발생 : offer," +
-                                    " candidate, answer 메시지 전달 실패 {}", e.getMessage());
-                        }
-                    });
+                    // 방 입장 처리는 해당 방의 이벤트 루프에서 순서대로 실행 (방 유저로 확인된 후에 세션을 방에 등록)
+                    roomEventLoop.execute(roomId, () -> joinRoom(roomId, token, webSessionId));
                     break;
 
                 // 유저 게임 준비
@@ -158,25 +109,7 @@ public class SignalingHandler extends TextWebSocketHandler {
                     log.info(">>> [ws] #{}번 방 유저, {} 타입으로 들어옴", roomId, message.getType());
 
                     // 접속한 유저의 roomId와 webSessionId 를 service 에 넘겨서 status 변경
-                    // 해당 유저의 readyStatus 가 true 였다면 false 로, false 였다면 true 로 DB 업데이트
-                    boolean userReadyStatus = gameRoomService.updateReadyStatus(roomId, webSessionId);
-                    log.info(">>> [ws] #{}번 방에 있는 {}, 게임 준비 상태 {} ", roomId, webSessionId, userReadyStatus);
-
-                    // 본인을 포함한 현재 방의 전체 유저 정보
-                    // 예) [ { userId: 2, nickname: "닉네임", imgUrl: "avatar.png", isHost: true, isReady: true, socketId: "qw5lkvtn"}, { ... } ]
-                    // ingame/attendee 라는 타입으로, 해당 방의 전체 유저에게 메시지 전달
-                    try {
-                        for (WebSocketSession webSocketSession : getRoomSessionList(roomId)) {
-                            log.info(">>> [ws] #{}번 방에 있는 전체 유저의 세션 객체 리스트 {}", roomId, webSocketSession);
-                            webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                    .type(MSG_TYPE_ATTENDEE)
-                                    .attendee(gameRoomService.getAllGameRoomUsers(roomId))
-                                    .sender(webSessionId).build())));
-                        }
-                        log.info(">>> [ws] 본인의 ready 변경 상태를 해당 방 전체 유저에게 전달 성공!!");
-                    } catch (Exception e) {
-                        log.info(">>> 에러 발생 : 해당 방 전체 유저에게 메시지 전달 실패 {}", e.getMessage());
-                    }
+                    roomEventLoop.execute(roomId, () -> toggleReady(roomId, webSessionId));
                     break;
 
                 // 강퇴
@@ -186,67 +119,13 @@ public class SignalingHandler extends TextWebSocketHandler {
                     log.info(">>> [ws] 방장이 강퇴 요청 / 강퇴 요청한 방장의 UUID : {}", webSessionId);
 
                     String kickId = message.getKickId();
-                    log.info(">>> [ws] 방장이 강퇴 요청 / 강퇴 당하는 유저의 UUID : {}", kickId);
-
-                    // 강퇴 당하는 사람에게만 메시지 발송
-                    try {
-                        for (WebSocketSession webSocketSession : getRoomSessionList(roomId)) {
-                            // 방 안의 전체 각각의 유저별로 강퇴 당하는 사람 찾아서 메시지 발송
-                            if (webSocketSession.getId().equals(kickId)) {
-//                                gameService.submitLeftRound(kickId);
-                                gameRoomService.exitGameRoom(kickId, roomId);
-                                log.info(">>> [ws] 강퇴 실행, Kick for 문 안에서 submitLeftRound 와 exitGameRoom 처리 완료");
-
-                                webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                        .type(MSG_TYPE_BE_KICKED)
-                                        .sender(kickId).build())));
-                                log.info(">>> [ws] 강퇴 당한 사람에게 메시지 전달 성공");
-                                break;
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.info(">>> [ws] 에러 발생 : 강퇴 당한 유저에게 메시지 전달 실패 {}", e.getMessage());
-                    }
-                    // 방에 남아있는 유저에게만 메시지 발송
-                    try {
-                        for (WebSocketSession webSocketSession : getRoomSessionList(roomId)) {
-                            if (!webSocketSession.getId().equals(kickId)) {
-                                webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                        .type(MSG_TYPE_ATTENDEE)
-                                        .attendee(gameRoomService.getAllGameRoomUsers(roomId))
-                                        .sender(webSocketSession.getId()).build())));
-
-                                log.info(">>> [ws] user_exit 메시지 받고 있는 webSessionId 리스트 {}", webSocketSession.getId());
-                                webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                        .type(MSG_TYPE_USER_EXIT)
-                                        .sender(webSocketSession.getId()).build())));
-                            }
-                        }
-                    } catch (Exception e) {
-                        log.info(">>> [ws] 에러 발생 : 해당 방 전체 유저에게 메시지 전달 실패 {}", e.getMessage());
-                    }
-
+                    roomEventLoop.execute(roomId, () -> kick(roomId, kickId));
                     break;
 
                 // 게임 한 판 끝난 후
                 case MSG_TYPE_ENDGAME:
 
-                    // 본인을 포함한 현재 방의 전체 유저 정보
-                    // 예) [ { userId: 2, nickname: "닉네임", imgUrl: "avatar.png", isHost: true, isReady: true, socketId: "qw5lkvtn"}, { ... } ]
-                    // ingame/attendee 라는 타입으로, 해당 방의 전체 유저에게 메시지 전달
-                    try {
-                        for (WebSocketSession webSocketSession : getRoomSessionList(roomId)) {
-                            log.info(">>> [ws] #{}번 방에 있는 전체 유저의 세션 객체 리스트 {}", roomId, webSocketSession);
-                            webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                                    .type(MSG_TYPE_ATTENDEE)
-                                    .attendee(gameRoomService.getAllGameRoomUsers(roomId))
-                                    .sender(webSessionId).build())));
-                        }
-                        log.info(">>> [ws] 현재 방 전체 사람들에게 상태 전송 성공 !!!");
-                    } catch (Exception e) {
-                        log.info(">>> 에러 발생 : 해당 방 전체 유저에게 메시지 전달 실패 {}", e.getMessage());
-                    }
-
+                    roomEventLoop.execute(roomId, () -> sendAttendee(roomId, webSessionId));
                     break;
 
                 // 메시지 타입이 잘못 되었을 경우
@@ -259,49 +138,171 @@ public class SignalingHandler extends TextWebSocketHandler {
     }
 
 
+    // 클라이언트에게서 받은 offer, answer, candidate 를 receiver 에게 전달
+    private void relay(WebSocketSession session, SignalRelay signalRelay) {
+        String receiver = signalRelay.getReceiver();   // 클라이언트에서 보내주는 1명의 receiver
+        log.debug(">>> [ws] {} 전달 : {} -> {}", signalRelay.getType(), session.getId(), receiver);
+
+        // sessions 에서 receiver 를 바로 찾아 메시지 전달
+        // candidate 는 receiver 의 대기열이 밀려 있으면 버린다
+        SignalingSession receiverSession = sessions.get(receiver);
+        if (receiverSession == null) {
+            log.info(">>> [ws] receiver {} 의 세션이 없음", receiver);
+            return;
+        }
+        try {
+            receiverSession.send(new TextMessage(signalRelay.write(session.getId())),
+                    MSG_TYPE_CANDIDATE.equals(signalRelay.getType()));
+        } catch (Exception e) {
+            log.info(">>> 에러 발생 : offer," +
+                    " candidate, answer 메시지 전달 실패 {}", e.getMessage());
+        }
+    }
+
+    private static boolean isRelayType(String type) {
+        return MSG_TYPE_OFFER.equals(type) || MSG_TYPE_ANSWER.equals(type) || MSG_TYPE_CANDIDATE.equals(type);
+    }
+
     // 소켓 연결 종료
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         log.info(">>> [ws] 클라이언트 접속 해제 : 세션 - {}, 상태 - {}", session, status);
 
-        // 유저 uuid 와 roomID 를 저장
-        String webSessionId = session.getId();                     // 유저 uuid
-        Long gameRoomId = gameRoomService.getRoomId(webSessionId); // roomId
+        // 연결이 종료되면 sessions 에서 해당 유저 삭제, 유저 uuid 와 있던 roomID 를 저장
+        String webSessionId = session.getId();                 // 유저 uuid
+        Long gameRoomId = sessions.remove(webSessionId);       // roomId
+
+        // 방에 입장하지 않았거나 이미 강퇴된 유저라면 방 나가기 처리 없음
+        if (gameRoomId == null) {
+            return;
+        }
+
+        // 방 나가기 처리는 해당 방의 이벤트 루프에서 순서대로 실행
+        roomEventLoop.execute(gameRoomId, () -> exitRoom(webSessionId, gameRoomId));
+    }
+
+    // 방 입장 : webSessionId 갱신 후 본인에게 다른 유저 리스트, 방 전체에 유저 정보 전달
+    private void joinRoom(Long roomId, String token, String webSessionId) throws Exception {
+        // gameroomId 와 token 에 있는 userId 로 GameRoomRepository 에서 해당 gameRoomUser 데이터를 찾고
+        // 해당 webSessionId 로 접속한 sessionId를 update (토큰이 잘못됐거나 방 유저가 아니면 예외로 입장 거절)
+        gameRoomService.updateWebSessionId(roomId, token, webSessionId);
+
+        // 확인된 유저의 세션만 방에 등록 (입장 처리 전에 연결이 끊겼다면 생략)
+        if (!sessions.join(roomId, webSessionId)) {
+            return;
+        }
+
+        // 해당 방에 다른 유저가 있었다면 offer-answer 를 위해 유저 리스트를 만들어 클라이언트에 전달
+
+        // 본인을 제외한 해당 방의 다른 유저들
+        // 예) [ { id : webSessionId1 }, { id : webSessionId2 }, ...  ]
+        List<Map<String, String>> allUsers = gameRoomService.getAllGameRoomUsersExceptMe(roomId, webSessionId);
+        log.info(">>> [ws] 본인 {} 을 제외한 #{}번 방의 다른 유저들 {}", webSessionId, roomId, allUsers);
+
+        // rtc/all_users 라는 타입으로, 본인에게 메시지 전달 (입장 처리 중에 연결이 끊겼다면 생략)
+        SignalingSession session = sessions.get(webSessionId);
+        if (session == null) {
+            return;
+        }
+        session.sendMessage(new TextMessage(Utils.getString(Message.builder()
+                .type(MSG_TYPE_ALL_USERS)
+                .allUsers(allUsers)
+                .sender(webSessionId).build())));
+
+        // ingame/attendee 라는 타입으로, 해당 방의 전체 유저에게 메시지 전달
+        sendAttendee(roomId, webSessionId);
+        log.info(">>> [ws] 본인의 정보를 해당 방 전체 유저에게 전달 완료");
+    }
+
+    // 게임 준비 상태 변경 후 방 전체에 유저 정보 전달
+    private void toggleReady(Long roomId, String webSessionId) {
+        // 접속한 유저의 roomId와 webSessionId 를 service 에 넘겨서 status 변경
+        // 해당 유저의 readyStatus 가 true 였다면 false 로, false 였다면 true 로 DB 업데이트
+        boolean userReadyStatus = gameRoomService.updateReadyStatus(roomId, webSessionId);
+        log.info(">>> [ws] #{}번 방에 있는 {}, 게임 준비 상태 {} ", roomId, webSessionId, userReadyStatus);
+
+        // ingame/attendee 라는 타입으로, 해당 방의 전체 유저에게 메시지 전달
+        sendAttendee(roomId, webSessionId);
+    }
+
+    // 강퇴 : 강퇴 당하는 유저를 방에서 내보내고 남은 유저에게 유저 정보 전달
+    private void kick(Long roomId, String kickId) {
+        log.info(">>> [ws] 방장이 강퇴 요청 / 강퇴 당하는 유저의 UUID : {}", kickId);
+
+        // 강퇴 당하는 사람에게만 메시지 발송
+        SignalingSession kickSession = sessions.get(kickId);
+        if (kickSession != null && roomId.equals(sessions.getRoomId(kickId))) {
+            gameRoomService.exitGameRoom(kickId, roomId);
+            sessions.leaveRoom(kickId);
+            log.info(">>> [ws] 강퇴 실행, exitGameRoom 처리 완료");
+            try {
+                kickSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
+                        .type(MSG_TYPE_BE_KICKED)
+                        .sender(kickId).build())));
+                log.info(">>> [ws] 강퇴 당한 사람에게 메시지 전달 성공");
+            } catch (Exception e) {
+                log.info(">>> [ws] 에러 발생 : 강퇴 당한 유저에게 메시지 전달 실패 {}", e.getMessage());
+            }
+        }
 
+        // 방에 남아있는 유저에게만 메시지 발송 (sender : 강퇴 당한 유저)
+        sendExit(roomId, kickId);
+    }
+
+    // 방 나가기 : 남은 라운드 제출 처리 후 방에서 내보내고 남은 유저에게 전달
+    private void exitRoom(String webSessionId, Long gameRoomId) {
+        // 이미 다른 방으로 옮겼거나 나간 유저라면 이 방의 나가기 처리를 하지 않는다
+        if (!gameRoomService.isGameRoomUser(gameRoomId, webSessionId)) {
+            log.info(">>> [ws] {} 는 #{}번 방 유저가 아님, 나가기 처리 생략", webSessionId, gameRoomId);
+            return;
+        }
         gameService.submitLeftRound(webSessionId);
         gameRoomService.exitGameRoom(webSessionId, gameRoomId);
 
-        // 연결이 종료되면 sessions 와 userInfo 에서 해당 유저 삭제
-        sessions.remove(webSessionId);
-
-        log.info(">>> [ws] {}를 제외한 남은 세션 객체 {}", webSessionId, sessions);
+        log.info(">>> [ws] {}를 제외한 남은 세션 수 {}", webSessionId, sessions.size());
 
         // 본인을 제외한 현재 방의 전체 유저 정보
-        // 강퇴기능으로 인해 만약 받아온 webSessionId 가 null 이 아닌 그냥 유저가 방을 나가거나 연결이 끊긴 경우 시작
-        // 예) [ { userId: 2, nickname: "닉네임", imgUrl: "avatar.png", isHost: true, isReady: true, socketId: "qw5lkvtn"}, { ... } ]
         // ingame/attendee & rtc/user_exit 라는 타입으로, 해당 방의 전체 유저에게 메시지 전달
-        if (gameRoomId != null) {
+        sendExit(gameRoomId, webSessionId);
+    }
+
+    // ingame/attendee 라는 타입으로, 해당 방의 전체 유저에게 본인을 포함한 현재 방의 전체 유저 정보 전달
+    // 예) [ { userId: 2, nickname: "닉네임", imgUrl: "avatar.png", isHost: true, isReady: true, socketId: "qw5lkvtn"}, { ... } ]
+    private void sendAttendee(Long roomId, String webSessionId) {
+        broadcast(roomId, Message.builder()
+                .type(MSG_TYPE_ATTENDEE)
+                .attendee(gameRoomService.getAllGameRoomUsers(roomId))
+                .sender(webSessionId).build());
+    }
+
+    // 방을 나간 유저를 제외한 남은 유저에게 ingame/attendee, rtc/user_exit 전달 (sender : 나간 유저)
+    private void sendExit(Long roomId, String exitId) {
+        sendAttendee(roomId, exitId);
+        broadcast(roomId, Message.builder()
+                .type(MSG_TYPE_USER_EXIT)
+                .sender(exitId).build());
+    }
+
+    // 방 전체 유저에게 같은 메시지 전달 : JSON 변환은 한번만 하고 같은 TextMessage 를 모두에게 보낸다
+    private void broadcast(Long roomId, Message message) {
+        TextMessage textMessage;
+        try {
+            textMessage = new TextMessage(Utils.getString(message));
+        } catch (Exception e) {
+            log.info(">>> 에러 발생 : {} 메시지 변환 실패 {}", message.getType(), e.getMessage());
+            return;
+        }
+        List<SignalingSession> roomSessionList = getRoomSessionList(roomId);
+        for (SignalingSession webSocketSession : roomSessionList) {
             try {
-                for (WebSocketSession webSocketSession : getRoomSessionList(gameRoomId)) {
-                    log.info(">>> [ws] #{}번 방에 있는 전체 유저의 세션 객체 리스트 {}", gameRoomId, webSocketSession);
-                    webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                            .type(MSG_TYPE_ATTENDEE)
-                            .attendee(gameRoomService.getAllGameRoomUsers(gameRoomId))
-                            .sender(webSessionId).build())));
-                    log.info(">>> [ws] user_exit 메시지 받고 있는 webSessionId 리스트 {}", webSocketSession.getId());
-                    webSocketSession.sendMessage(new TextMessage(Utils.getString(Message.builder()
-                            .type(MSG_TYPE_USER_EXIT)
-                            .sender(webSessionId).build())));
-                }
-                log.info(">>> [ws] 본인의 방 나가기 상태를 해당 방 전체 유저에게 전달 성공!!");
+                webSocketSession.sendMessage(textMessage);
             } catch (Exception e) {
-                log.info(">>> 에러 발생 : 해당 방 전체 유저에게 메시지 전달 실패 {}", e.getMessage());
+                log.info(">>> 에러 발생 : {} 에게 {} 메시지 전달 실패 {}", webSocketSession.getId(), message.getType(), e.getMessage());
             }
         }
-
+        log.info(">>> [ws] #{}번 방 {}명에게 {} 메시지 전달", roomId, roomSessionList.size(), message.getType());
     }
 
-
     // 소켓 통신 에러
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) {
@@ -309,20 +310,7 @@ public class SignalingHandler extends TextWebSocketHandler {
     }
 
     // 본인을 포함한 현재 방의 세션 객체 리스트 반환
-    public List<WebSocketSession> getRoomSessionList(Long roomId) {
-        List<WebSocketSession> sessionList = new ArrayList<>();
-        List<String> allUsers = gameRoomService.getAllGameRoomUsersSessionId(roomId);
-        sessions.values().forEach(s -> {
-            try {
-                for (String allUser : allUsers) {
-                    if (allUser.equals(s.getId())) {
-                        sessionList.add(s);
-                    }
-                }
-            } catch (Exception e) {
-                log.info(">>> 에러 발생 : 본인을 포함한 현재 방의 세션 객체 리스트 생성 실패 {}", e.getMessage());
-            }
-        });
-        return sessionList;
+    public List<SignalingSession> getRoomSessionList(Long roomId) {
+        return sessions.getRoomSessions(roomId);
     }
-}
\ No newline at end of file
+}
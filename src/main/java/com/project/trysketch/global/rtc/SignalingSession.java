@@ -0,0 +1,143 @@
+package com.project.trysketch.global.rtc;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 1. 기능   : 보내기 대기열이 있는 시그널링 세션
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : 보내는 쪽(방 이벤트 루프, 시그널링 수신 스레드)은 세션별 대기열에 넣기만 하고 바로 돌아가고,
+//             실제 전송(블로킹 write)은 signalingSenderExecutor 가 한다. 세션마다 전송 작업은 하나만 돌기 때문에 넣은 순서대로 나간다.
+//             대기열이 절반 이상 차면 candidate 는 버리고 (이후 candidate 로 다시 연결 가능),
+//             한 메시지 전송이 시간 제한을 넘거나 대기열 크기 제한을 넘으면 느린 클라이언트로 보고 연결을 끊는다
+@Slf4j
+public class SignalingSession extends WebSocketSessionDecorator implements Runnable {
+
+    private final ThreadPoolTaskExecutor sender;
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final Counter droppedCounter;
+    private final Counter closedCounter;
+
+    private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile long sendStartTime = 0;    // 전송중인 메시지의 전송 시작 시각 (전송중이 아니면 0)
+    private volatile boolean closed;
+
+    public SignalingSession(WebSocketSession session, ThreadPoolTaskExecutor sender, int sendTimeLimit, int bufferSizeLimit,
+                            Counter droppedCounter, Counter closedCounter) {
+        super(session);
+        this.sender = sender;
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.droppedCounter = droppedCounter;
+        this.closedCounter = closedCounter;
+    }
+
+    // 메시지 전송, 버려도 되는 메시지(candidate)는 대기열이 밀려 있으면 버린다
+    public void send(WebSocketMessage<?> message, boolean droppable) {
+        if (droppable && bufferSize.get() > bufferSizeLimit / 2) {
+            droppedCounter.increment();
+            log.debug(">>> [ws] {} 대기열 {}bytes, candidate 버림", getId(), bufferSize.get());
+            return;
+        }
+        sendMessage(message);
+    }
+
+    // 대기열에 넣고 바로 반환
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (closed) {
+            return;
+        }
+        long start = sendStartTime;
+        if (start > 0 && System.currentTimeMillis() - start > sendTimeLimit) {
+            closeSlow("전송 시간 " + sendTimeLimit + "ms 초과");
+            return;
+        }
+        queue.add(message);
+        if (bufferSize.addAndGet(message.getPayloadLength()) > bufferSizeLimit) {
+            closeSlow("대기열 " + bufferSizeLimit + "bytes 초과");
+            return;
+        }
+        schedule();
+    }
+
+    // 대기열에 쌓인 메시지 크기
+    public int getBufferSize() {
+        return bufferSize.get();
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closed = true;
+        queue.clear();
+        bufferSize.set(0);
+        super.close(status);
+    }
+
+    // 전송 작업 : 대기열이 빌 때까지 순서대로 보낸다
+    @Override
+    public void run() {
+        try {
+            WebSocketMessage<?> message;
+            while (!closed && (message = queue.poll()) != null) {
+                bufferSize.addAndGet(-message.getPayloadLength());
+                sendStartTime = System.currentTimeMillis();
+                try {
+                    getDelegate().sendMessage(message);
+                } catch (IOException | RuntimeException e) {
+                    log.info(">>> [ws] {} 메시지 전송 실패 : {}", getId(), e.getMessage());
+                    closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+                    return;
+                } finally {
+                    sendStartTime = 0;
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+        // 작업을 끝내는 사이에 들어온 메시지가 있으면 다시 올린다
+        if (!closed && !queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    // 전송 작업이 돌고 있지 않을 때만 새로 올린다
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            sender.execute(this);
+        }
+    }
+
+    // 느린 클라이언트 : 대기열을 버리고 연결 종료는 전송 스레드에서 한다 (보내는 쪽을 막지 않도록)
+    private void closeSlow(String reason) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        bufferSize.set(0);
+        closedCounter.increment();
+        log.info(">>> [ws] {} 전송 지연으로 연결 종료 : {}", getId(), reason);
+        sender.execute(() -> closeQuietly(CloseStatus.SESSION_NOT_RELIABLE));
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            close(status);
+        } catch (IOException e) {
+            log.info(">>> [ws] {} 연결 종료 실패 : {}", getId(), e.getMessage());
+        }
+    }
+}
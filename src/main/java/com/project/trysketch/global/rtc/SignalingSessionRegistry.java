@@ -0,0 +1,166 @@
+package com.project.trysketch.global.rtc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 1. 기능   : 시그널링 세션 저장소
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : webSessionId -> 세션, 방 번호 -> 방에 있는 webSessionId 두 단계로 저장한다.
+//             receiver 찾기와 방의 세션 목록 조회 모두 DB 조회나 전체 세션 순회 없이 바로 찾는다.
+//             연결 시 보내기 대기열이 있는 SignalingSession 으로 감싸 저장하고, 방 입장(join_room)이 확인된 후에 방에 등록한다.
+//             강퇴되면 방에서만 빠지고, 연결이 끊기면 삭제한다
+@Slf4j
+@Component
+public class SignalingSessionRegistry {
+
+    // webSessionId -> 세션
+    private final Map<String, SignalingSession> sessions = new ConcurrentHashMap<>();
+
+    // webSessionId -> 방 번호
+    private final Map<String, Long> sessionRooms = new ConcurrentHashMap<>();
+
+    // 방 번호 -> 방에 있는 webSessionId
+    private final Map<Long, Set<String>> rooms = new ConcurrentHashMap<>();
+
+    private final ThreadPoolTaskExecutor signalingSenderExecutor;
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final Counter droppedCounter;
+    private final Counter closedCounter;
+
+    public SignalingSessionRegistry(MeterRegistry meterRegistry,
+                                    @Qualifier("signalingSenderExecutor") ThreadPoolTaskExecutor signalingSenderExecutor,
+                                    @Value("${signaling.send-time-limit:5000}") int sendTimeLimit,
+                                    @Value("${signaling.buffer-size-limit:262144}") int bufferSizeLimit) {
+        this.signalingSenderExecutor = signalingSenderExecutor;
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.droppedCounter = Counter.builder("signaling.outbound.dropped")
+                .description("대기열이 밀려 버린 candidate 수")
+                .register(meterRegistry);
+        this.closedCounter = Counter.builder("signaling.outbound.closed")
+                .description("전송 시간 / 대기열 크기 제한을 넘어 끊은 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("signaling.outbound.buffer", this, SignalingSessionRegistry::getBufferSize)
+                .description("전체 세션의 보내기 대기열 크기 합")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("signaling.outbound.buffer.max", this, SignalingSessionRegistry::getMaxBufferSize)
+                .description("가장 밀려 있는 세션의 보내기 대기열 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("signaling.sessions", sessions, Map::size)
+                .description("연결된 시그널링 세션 수")
+                .register(meterRegistry);
+    }
+
+    // 연결 시 세션 등록 : 보내기 대기열이 있는 세션으로 감싼다 (실제 전송은 signalingSenderExecutor)
+    public SignalingSession open(WebSocketSession session) {
+        SignalingSession signalingSession = new SignalingSession(session, signalingSenderExecutor,
+                sendTimeLimit, bufferSizeLimit, droppedCounter, closedCounter);
+        sessions.put(session.getId(), signalingSession);
+        return signalingSession;
+    }
+
+    // 방 입장 시 방에 등록 (다른 방에 있었다면 옮긴다), 이미 연결이 끊긴 세션이면 등록하지 않고 false
+    public boolean join(Long roomId, String webSessionId) {
+        if (!sessions.containsKey(webSessionId)) {
+            return false;
+        }
+        Long before = sessionRooms.put(webSessionId, roomId);
+        if (before != null && !before.equals(roomId)) {
+            removeFromRoom(before, webSessionId);
+        }
+        // 빈 방 정리(removeFromRoom)와 겹쳐 버려진 목록에 추가되지 않도록 compute 안에서 추가
+        rooms.compute(roomId, (id, webSessionIds) -> {
+            Set<String> roomSessionIds = webSessionIds == null ? ConcurrentHashMap.newKeySet() : webSessionIds;
+            roomSessionIds.add(webSessionId);
+            return roomSessionIds;
+        });
+
+        // 등록하는 사이 연결이 끊겼다면 다시 제외
+        if (!sessions.containsKey(webSessionId)) {
+            leaveRoom(webSessionId);
+            return false;
+        }
+        return true;
+    }
+
+    // 방에서만 제외 (강퇴 당한 유저는 연결이 끊길 때까지 세션은 남아있다)
+    public Long leaveRoom(String webSessionId) {
+        Long roomId = sessionRooms.remove(webSessionId);
+        if (roomId != null) {
+            removeFromRoom(roomId, webSessionId);
+        }
+        return roomId;
+    }
+
+    // 연결 종료 시 세션 삭제, 있던 방 번호 반환 (방에 없었다면 null)
+    public Long remove(String webSessionId) {
+        sessions.remove(webSessionId);
+        return leaveRoom(webSessionId);
+    }
+
+    public SignalingSession get(String webSessionId) {
+        return webSessionId == null ? null : sessions.get(webSessionId);
+    }
+
+    public Long getRoomId(String webSessionId) {
+        return sessionRooms.get(webSessionId);
+    }
+
+    // 방에 있는 세션 목록
+    public List<SignalingSession> getRoomSessions(Long roomId) {
+        List<SignalingSession> sessionList = new ArrayList<>();
+        Set<String> webSessionIds = rooms.get(roomId);
+        if (webSessionIds == null) {
+            return sessionList;
+        }
+        for (String webSessionId : webSessionIds) {
+            SignalingSession session = sessions.get(webSessionId);
+            if (session != null) {
+                sessionList.add(session);
+            }
+        }
+        return sessionList;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private double getBufferSize() {
+        long total = 0;
+        for (SignalingSession session : sessions.values()) {
+            total += session.getBufferSize();
+        }
+        return total;
+    }
+
+    private double getMaxBufferSize() {
+        int max = 0;
+        for (SignalingSession session : sessions.values()) {
+            max = Math.max(max, session.getBufferSize());
+        }
+        return max;
+    }
+
+    private void removeFromRoom(Long roomId, String webSessionId) {
+        rooms.computeIfPresent(roomId, (id, webSessionIds) -> {
+            webSessionIds.remove(webSessionId);
+            return webSessionIds.isEmpty() ? null : webSessionIds;
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.trysketch.global.utill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// 1. 기능   : 업적 획득 조건표
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 업적마다 (확인할 활동 이력, 기준값) 을 등록하고, 획득한 업적은 AchievementCode 순서(ordinal)의 bit 로 표현한다
+public class AchievementRule {
+
+    // 업적 코드 -> 획득 조건
+    public static final Map<AchievementCode, Rule> RULES;
+
+    // 업적 이름 -> 업적 코드
+    private static final Map<String, AchievementCode> CODES;
+
+    static {
+        EnumMap<AchievementCode, Rule> rules = new EnumMap<>(AchievementCode.class);
+        rules.put(AchievementCode.PLAYTIME_TROPHY_BRONZE, new Rule(Metric.PLAYTIME, 10));
+        rules.put(AchievementCode.PLAYTIME_TROPHY_SILVER, new Rule(Metric.PLAYTIME, 20));
+        rules.put(AchievementCode.PLAYTIME_TROPHY_GOLD, new Rule(Metric.PLAYTIME, 30));
+        rules.put(AchievementCode.TRIAL_TROPHY_BRONZE, new Rule(Metric.TRIALS, 1));
+        rules.put(AchievementCode.TRIAL_TROPHY_SILVER, new Rule(Metric.TRIALS, 5));
+        rules.put(AchievementCode.TRIAL_TROPHY_GOLD, new Rule(Metric.TRIALS, 10));
+        rules.put(AchievementCode.VISIT_TROPHY_BRONZE, new Rule(Metric.VISITS, 1));
+        rules.put(AchievementCode.VISIT_TROPHY_SILVER, new Rule(Metric.VISITS, 5));
+        rules.put(AchievementCode.VISIT_TROPHY_GOLD, new Rule(Metric.VISITS, 10));
+        RULES = Collections.unmodifiableMap(rules);
+
+        Map<String, AchievementCode> codes = new HashMap<>();
+        for (AchievementCode achievementCode : AchievementCode.values()) {
+            codes.put(achievementCode.getAchievementName(), achievementCode);
+        }
+        CODES = Collections.unmodifiableMap(codes);
+    }
+
+    private AchievementRule() {
+    }
+
+    // 활동 이력으로 조건을 만족하는 업적 bit 계산
+    public static int evaluate(long playtime, long trials, long visits) {
+        int satisfied = 0;
+        for (Map.Entry<AchievementCode, Rule> entry : RULES.entrySet()) {
+            long count = switch (entry.getValue().getMetric()) {
+                case PLAYTIME -> playtime;
+                case TRIALS -> trials;
+                case VISITS -> visits;
+            };
+            if (count >= entry.getValue().getBaseLine()) {
+                satisfied |= bit(entry.getKey());
+            }
+        }
+        return satisfied;
+    }
+
+    public static int bit(AchievementCode achievementCode) {
+        return 1 << achievementCode.ordinal();
+    }
+
+    // 업적 이름의 bit (모르는 이름이면 0)
+    public static int bit(String achievementName) {
+        AchievementCode achievementCode = CODES.get(achievementName);
+        return achievementCode == null ? 0 : bit(achievementCode);
+    }
+
+    // 확인할 활동 이력
+    public enum Metric {
+        PLAYTIME,   // 플레이 타임 (분)
+        TRIALS,     // 플레이 횟수
+        VISITS      // 로그인 횟수
+    }
+
+    // 업적 획득 조건 : metric 값이 baseLine 이상
+    @Getter
+    @RequiredArgsConstructor
+    public static class Rule {
+        private final Metric metric;
+        private final long baseLine;
+    }
+}
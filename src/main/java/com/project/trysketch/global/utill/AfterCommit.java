@@ -0,0 +1,41 @@
+package com.project.trysketch.global.utill;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 1. 기능   : 트랜잭션 커밋 후 실행
+// 2. 작성자 : 김재영
+// 3. 참고사항 : 진행중인 트랜잭션이 없다면 바로 실행한다 (onRollback 은 실행하지 않는다)
+public class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 트랜잭션이 롤백된 후 실행 (미리 잡아둔 메모리 자원 되돌리기용)
+    public static void onRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.trysketch.global.utill;
+
+import com.project.trysketch.global.exception.CustomException;
+import com.project.trysketch.global.exception.StatusMsgCode;
+import lombok.Getter;
+import java.io.InputStream;
+import java.util.Base64;
+
+// 1. 기능   : data URL (data:image/png;base64,....) 형식의 그림을 복사 없이 스트림으로 읽기
+// 2. 작성자 : 황미경
+// 3. 참고사항 : split, byte[] 변환, 임시 파일 없이 원본 문자열을 그대로 읽으면서 base64 를 디코딩한다
+@Getter
+public class DataUrlImage {
+
+    private final String contentType;       // image/png, image/jpeg
+    private final long contentLength;       // 디코딩된 그림의 byte 수
+
+    private final CharSequence dataUrl;
+    private final int dataStart;            // base64 데이터 시작 위치 (',' 다음)
+
+    private DataUrlImage(CharSequence dataUrl, int dataStart, String contentType, long contentLength) {
+        this.dataUrl = dataUrl;
+        this.dataStart = dataStart;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+    }
+
+    public static DataUrlImage of(CharSequence dataUrl) {
+        int comma = indexOf(dataUrl, ',');
+        if (comma < 0) {
+            throw new CustomException(StatusMsgCode.IMAGE_SAVE_FAILED);
+        }
+        String header = dataUrl.subSequence(0, comma).toString();
+        String contentType = switch (header) {
+            case "data:image/png;base64" -> "image/png";
+            default -> "image/jpeg";
+        };
+        return new DataUrlImage(dataUrl, comma + 1, contentType, decodedLength(dataUrl, comma + 1));
+    }
+
+    // 디코딩된 그림을 읽는 스트림
+    public InputStream openStream() {
+        return Base64.getMimeDecoder().wrap(new AsciiInputStream(dataUrl, dataStart));
+    }
+
+    // base64 문자 4개 -> 3 byte, 남은 문자 2개 -> 1 byte, 3개 -> 2 byte
+    private static long decodedLength(CharSequence dataUrl, int start) {
+        long count = 0;
+        for (int i = start; i < dataUrl.length(); i++) {
+            char c = dataUrl.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/') {
+                count++;
+            }
+        }
+        long remainder = count % 4;
+        return count / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    private static int indexOf(CharSequence dataUrl, char target) {
+        // header 는 짧으므로 앞부분만 확인
+        int limit = Math.min(dataUrl.length(), 64);
+        for (int i = 0; i < limit; i++) {
+            if (dataUrl.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 문자열을 복사하지 않고 한 글자씩 byte 로 읽는 스트림 (base64 는 ASCII 문자만 사용)
+    private static class AsciiInputStream extends InputStream {
+        private final CharSequence source;
+        private int position;
+
+        private AsciiInputStream(CharSequence source, int position) {
+            this.source = source;
+            this.position = position;
+        }
+
+        @Override
+        public int read() {
+            return position < source.length() ? source.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int remaining = source.length() - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) source.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return source.length() - position;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.trysketch.global.utill;
 
+import com.project.trysketch.global.game.KeywordDictionary;
 import com.project.trysketch.service.ImageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class Scheduler {
 
     private final ImageService imageService;
+    private final KeywordDictionary keywordDictionary;
 
     // 좋아요 안 눌린 그림 DB, S3로 부터 주기적으로 삭제하는 기능. 매일 0시 0분
     @Scheduled(cron = "0 0 4 * * *")               // 초, 분, 시, 일, 월, 주 순서
@@ -21,4 +23,11 @@ public class Scheduler {
         imageService.deleteImage();
         log.info("좋아요 안눌린 이미지 삭제.");
     }
+
+    // 제시어 사전 갱신. 서버 재시작 없이 추가/수정된 명사, 형용사 반영. 매 정각
+    @Scheduled(cron = "0 0 * * * *")
+    public void reloadKeyword() {
+        keywordDictionary.reload();
+        log.info("제시어 사전 갱신.");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package com.project.trysketch.global.utill.sse;
+
+import com.project.trysketch.dto.response.GameRoomResponseDto;
+import com.project.trysketch.dto.response.LobbyEventResponseDto;
+import com.project.trysketch.dto.response.LobbySnapshotResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 1. 기능   : 로비 방 목록 메모리 인덱스
+// 2. 작성자 : 황미경
+// 3. 참고사항 : 방이 바뀔 때마다 DB 에서 전체 방을 다시 읽지 않고 바뀐 방만 반영한다. 전체 방 목록은 최초 연결(connect) 때만 보낸다.
+//             바뀐 방은 바로 보내지 않고 일정 시간(window) 동안 모았다가 한 번에 보낸다 (같은 방이 여러 번 바뀌면 마지막 상태만).
+//             window 는 연결된 클라이언트가 많을수록 길어져서 초당 전송량(이벤트 수 x 클라이언트 수)이 일정하게 유지된다.
+//             변경 반영, version 증가, 전송을 한 lock 안에서 하므로 모든 클라이언트가 같은 순서로 받고,
+//             connect 도 같은 lock 안에서 등록하므로 스냅샷과 변경분 사이에 빠지는 이벤트가 없다.
+//             version 은 SSE 이벤트 id 로도 쓰이고, 최근 변경분을 일정 개수만큼 보관해
+//             재연결 시 Last-Event-ID 이후의 변경분만 다시 보낸다 (보관 범위를 벗어나면 전체 방 목록)
+@Slf4j
+@Component
+public class LobbyIndex {
+
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "lobby-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SseEmitters sseEmitters;
+    private final int replaySize;
+    private final long windowMillis;        // 최소 window
+    private final long maxWindowMillis;     // 최대 window
+    private final long maxSendsPerSecond;   // 초당 전송량 목표 (이벤트 수 x 클라이언트 수)
+
+    // 방 번호 -> 로비에 보이는 방 정보 (방 번호 순)
+    private final Map<Long, GameRoomResponseDto> rooms = new TreeMap<>();
+
+    // 이번 window 에 바뀐 방 번호 -> window 시작 전에 있던 방인지
+    private final Map<Long, Boolean> pending = new HashMap<>();
+    private boolean scheduled = false;
+
+    // 최근 변경분 (오래된 순)
+    private final Deque<LobbyEvent> recentEvents;
+
+    // 서버 시작 시각에서 시작하므로 재시작 전의 Last-Event-ID 와 겹치지 않는다
+    private long version = System.currentTimeMillis();
+
+    public LobbyIndex(SseEmitters sseEmitters,
+                      @Value("${sse.lobby.replay-size:256}") int replaySize,
+                      @Value("${sse.lobby.window-millis:200}") long windowMillis,
+                      @Value("${sse.lobby.max-window-millis:2000}") long maxWindowMillis,
+                      @Value("${sse.lobby.max-sends-per-second:5000}") long maxSendsPerSecond) {
+        this.sseEmitters = sseEmitters;
+        this.replaySize = replaySize;
+        this.windowMillis = windowMillis;
+        this.maxWindowMillis = maxWindowMillis;
+        this.maxSendsPerSecond = maxSendsPerSecond;
+        this.recentEvents = new ArrayDeque<>(replaySize);
+    }
+
+    // 연결 : emitter 등록 후 놓친 변경분 또는 전체 방 목록 전송 (다른 변경분과 같은 대기열로 순서대로 나간다)
+    public synchronized void connect(SseEmitter emitter, Long lastEventId, long reconnectTime) {
+        sseEmitters.add(emitter);
+        sseEmitters.send(emitter, () -> SseEmitter.event().reconnectTime(reconnectTime));
+
+        if (canReplay(lastEventId)) {
+            int count = 0;
+            for (LobbyEvent event : recentEvents) {
+                if (event.version > lastEventId) {
+                    sseEmitters.send(emitter, event::toSse);
+                    count++;
+                }
+            }
+            log.info("[SSE] - LobbyIndex 재연결 / Last-Event-ID : {}, 놓친 변경분 {}건 전송", lastEventId, count);
+            return;
+        }
+        String id = String.valueOf(version);
+        LobbySnapshotResponseDto snapshot = snapshot();
+        sseEmitters.send(emitter, () -> SseEmitter.event()
+                .id(id)
+                .name("connect")
+                .data(snapshot));
+    }
+
+    // 방 생성 또는 변경 (인원, 방장, 게임 여부)
+    public synchronized void put(GameRoomResponseDto room) {
+        GameRoomResponseDto before = rooms.put(room.getId(), room);
+        changed(room.getId(), before != null);
+    }
+
+    // 방 삭제
+    public synchronized void remove(Long roomId) {
+        if (rooms.remove(roomId) != null) {
+            changed(roomId, true);
+        }
+    }
+
+    // 서버 시작 시 DB 의 방 목록으로 채우기 (변경분은 보내지 않는다, 먼저 반영된 변경분이 있으면 그 값을 유지)
+    public synchronized void load(Iterable<GameRoomResponseDto> roomList) {
+        roomList.forEach(room -> rooms.putIfAbsent(room.getId(), room));
+        version++;
+        recentEvents.clear();
+        log.info("[SSE] - LobbyIndex 방 {}개 로드", rooms.size());
+    }
+
+    public synchronized int size() {
+        return rooms.size();
+    }
+
+    public synchronized LobbySnapshotResponseDto snapshot() {
+        return LobbySnapshotResponseDto.builder()
+                .version(version)
+                .rooms(new ArrayList<>(rooms.values()))
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        publisher.shutdownNow();
+    }
+
+    // 바뀐 방 기록, window 의 첫 변경이면 window 후 전송 예약
+    private void changed(Long roomId, boolean existed) {
+        pending.putIfAbsent(roomId, existed);
+        if (!scheduled) {
+            scheduled = true;
+            publisher.schedule(this::flush, window(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // window 동안 모인 변경분을 하나로 합쳐 전송
+    synchronized void flush() {
+        scheduled = false;
+        List<GameRoomResponseDto> added = new ArrayList<>();
+        List<GameRoomResponseDto> updated = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        pending.forEach((roomId, existed) -> {
+            GameRoomResponseDto room = rooms.get(roomId);
+            if (room == null) {
+                if (existed) {
+                    removed.add(roomId);
+                }
+            } else if (existed) {
+                updated.add(room);
+            } else {
+                added.add(room);
+            }
+        });
+        int changes = pending.size();
+        pending.clear();
+
+        // window 안에서 생겼다가 없어진 방뿐이면 보낼 것 없음
+        if (added.isEmpty() && updated.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        publish(LobbyEventResponseDto.builder()
+                .version(++version)
+                .added(added)
+                .updated(updated)
+                .removed(removed)
+                .build());
+        log.info("[SSE] - LobbyIndex 변경분 전송 / 방 {}개, version {}", changes, version);
+    }
+
+    // 연결된 클라이언트 수에 맞춘 window : 클라이언트 수 / 초당 전송량 목표 (최소 ~ 최대 window 사이)
+    private long window() {
+        long window = sseEmitters.size() * 1000L / maxSendsPerSecond;
+        return Math.min(maxWindowMillis, Math.max(windowMillis, window));
+    }
+
+    // 변경분 보관 후 전체 전송
+    private void publish(LobbyEventResponseDto data) {
+        if (recentEvents.size() == replaySize) {
+            recentEvents.pollFirst();
+        }
+        LobbyEvent event = new LobbyEvent(data.getVersion(), data);
+        recentEvents.addLast(event);
+        sseEmitters.send(event::toSse);
+    }
+
+    // Last-Event-ID 이후의 변경분이 모두 남아있는지 (이미 최신이면 보낼 것 없이 true)
+    boolean canReplay(Long lastEventId) {
+        if (lastEventId == null || lastEventId > version) {
+            return false;
+        }
+        long oldest = recentEvents.isEmpty() ? version + 1 : recentEvents.peekFirst().version;
+        return lastEventId >= oldest - 1;
+    }
+
+    private static class LobbyEvent {
+        private final long version;
+        private final LobbyEventResponseDto data;
+
+        private LobbyEvent(long version, LobbyEventResponseDto data) {
+            this.version = version;
+            this.data = data;
+        }
+
+        // SseEventBuilder 는 한번만 보낼 수 있으므로 보낼 때마다 새로 만든다
+        private SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                    .id(String.valueOf(version))
+                    .name("roomsChanged")
+                    .data(data);
+        }
+    }
+}
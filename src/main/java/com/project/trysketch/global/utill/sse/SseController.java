@@ -1,15 +1,15 @@
 package com.project.trysketch.global.utill.sse;
 
-import com.project.trysketch.service.SseService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 // 1. 기능   : SSE 연결을 위한 controller
 // 2. 작성자 : 황미경
@@ -17,10 +17,14 @@ import java.io.IOException;
 @Slf4j
 @RestController
 public class SseController {
+    private static final long TIMEOUT = 5 * 60 * 1000L;
+    private static final long TIMEOUT_JITTER = 60 * 1000L;
+    private static final long RETRY = 3 * 1000L;
+
     private final SseEmitters sseEmitters;
 
     @Autowired
-    private SseService sseService;
+    private LobbyIndex lobbyIndex;
 
     public SseController(SseEmitters sseEmitters) {
         this.sseEmitters = sseEmitters;
@@ -29,25 +33,18 @@ public class SseController {
     // Emitter 생성 및 SSE 최초 연결
     @CrossOrigin
     @GetMapping(value = "/api/sse/rooms", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> connect() {
-        log.info("[SSE] - Controller 시작 / connect() 메서드 시작");
+    public ResponseEntity<SseEmitter> connect(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("[SSE] - Controller 시작 / connect() 메서드 시작 / Last-Event-ID : {}", lastEventId);
 
-        // Emitter 객체 생성. 5분으로 설정
-        SseEmitter emitter = new SseEmitter(5 * 60 * 1000L);
-        sseEmitters.add(emitter);
+        // Emitter 객체 생성. 5분 + 최대 1분 (동시에 연결된 클라이언트가 한꺼번에 타임아웃 되지 않도록)
+        SseEmitter emitter = new SseEmitter(TIMEOUT + ThreadLocalRandom.current().nextLong(TIMEOUT_JITTER));
 
-        // SSE 연결 및 데이터 전송
-        try {
-            log.info("[SSE] - Controller 의 connect() 메서드 / try 문 안의 emitter 객체 생성");
-            emitter.send(SseEmitter.event()
-                    .name("connect")                 // event 의 이름
-                    .data(sseService.getRooms(0)));       // event 에 담을 data
-            log.info("[SSE] - Controller 의 connect() 메서드 / try 문 안의 / 생성된 emitter : {}", emitter);
-        } catch (IOException e) {
-            log.info("[SSE] - Controller 의 connect() 메서드 / try 문 안의 예외 처리 터짐 / remove 실행");
-            log.info("", e);
-            sseEmitters.remove(emitter);
-        }
+        // 재연결 대기 시간도 클라이언트마다 다르게 (3초 ~ 6초)
+        long reconnectTime = RETRY + ThreadLocalRandom.current().nextLong(RETRY);
+
+        // SSE 연결 및 전체 방 목록 전송 (재연결이면 놓친 변경분만, 이후에는 바뀐 방만 전송)
+        lobbyIndex.connect(emitter, parseEventId(lastEventId), reconnectTime);
+        log.info("[SSE] - Controller 의 connect() 메서드 / 생성된 emitter : {}", emitter);
 
         // 타임아웃 발생시 콜백 등록
         emitter.onTimeout(() -> {
@@ -62,4 +59,16 @@ public class SseController {
 
         return ResponseEntity.ok(emitter);
     }
-}
\ No newline at end of file
+
+    // Last-Event-ID 가 없거나 숫자가 아니면 null (전체 방 목록 전송)
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,32 +1,64 @@
 package com.project.trysketch.global.utill.sse;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 // 1. 기능   : SSE 연결시 발생시킬 event 생성로직
 // 2. 작성자 : 황미경
+// 3. 참고사항 : 보내는 쪽(게임방 서비스)은 emitter 별 대기열에 넣기만 하고 바로 돌아가고, 실제 전송은 sseFanoutExecutor 가 한다.
+//             emitter 마다 전송 작업은 하나만 돌기 때문에 한 emitter 의 이벤트는 넣은 순서대로 나간다.
+//             대기열이 가득 찬 emitter 는 따라오지 못하는 클라이언트로 보고 연결을 끊는다 (재연결 시 Last-Event-ID 로 이어받음)
 
 @Component
 @Slf4j
 public class SseEmitters {
 
     // thread-safe한 자료구조 사용 필요. (콜백이 SseEmitter를 관리하는 다른 스레드에서 실행되기 때문)
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Map<SseEmitter, Subscriber> emitters = new ConcurrentHashMap<>();
+
+    private final ThreadPoolTaskExecutor sseFanoutExecutor;
+    private final int queueSize;
+    private final Timer sendTimer;
+    private final Counter evictedCounter;
+
+    public SseEmitters(@Qualifier("sseFanoutExecutor") ThreadPoolTaskExecutor sseFanoutExecutor,
+                       @Value("${sse.fanout.queue-size:512}") int queueSize,
+                       MeterRegistry meterRegistry) {
+        this.sseFanoutExecutor = sseFanoutExecutor;
+        this.queueSize = queueSize;
+        this.sendTimer = Timer.builder("sse.lobby.send")
+                .description("emitter 한 곳에 이벤트 하나를 보내는 시간")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("sse.lobby.evicted")
+                .description("대기열이 가득 차서 연결을 끊은 emitter 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.lobby.emitters", emitters, Map::size)
+                .description("연결된 로비 SSE 수")
+                .register(meterRegistry);
+    }
 
     // SSE emitter 등록 메서드
     void add(SseEmitter emitter) {
-        this.emitters.add(emitter);
+        this.emitters.put(emitter, new Subscriber(emitter));
         log.info("[SSE] - SseEmitters 파일 add 메서드 시작 / emitter list size : {}", emitters.size());
-        log.info("[SSE] - SseEmitters 파일 add 메서드 시작 / emitter list: {}", emitters);
 
         // Broken Pipe 발생시
         emitter.onError(throwable -> {
-//            log.error("[SSE] - ★★★★★★★★SseEmitters 파일 add 메서드 / [ onError ]");
-//            log.error("", throwable); // 덕분에 Broken Pipe 에러를 찾을 수 있었음
             emitter.complete();
         });
 
@@ -39,30 +71,107 @@ public class SseEmitters {
         // 비동기요청 완료시 emitter 객체 삭제
         emitter.onCompletion(() -> {
             log.info("[SSE] - ★★★★★★★★SseEmitters 파일 add 메서드 / [ onCompletion ]");
-            this.emitters.remove(emitter);
+            remove(emitter);
         });
     }
 
     void remove(SseEmitter emitter) {
-        log.info("[SSE] - ★★★★★★★★SseEmitters 파일 add 메서드 / [ remove ]");
-        this.emitters.remove(emitter);
+        Subscriber subscriber = this.emitters.remove(emitter);
+        if (subscriber != null) {
+            subscriber.close();
+        }
     }
 
-    // 게임 방 생성, 입장, 퇴장시 SSE 커넥션 연결된 모든 클라이언트에 방리스트 전달
-    public void changeRoom(Object roomInfo) {
-        log.info("[SSE] - SseEmitters 파일 changeRoom 메서드 시작");
-        emitters.forEach(emitter -> {
+    // 한 emitter 에만 전달 (최초 연결 시 방 목록, 놓친 변경분)
+    void send(SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> event) {
+        Subscriber subscriber = emitters.get(emitter);
+        if (subscriber != null) {
+            subscriber.offer(event);
+        }
+    }
+
+    // 연결된 emitter 수
+    public int size() {
+        return emitters.size();
+    }
+
+    // 방 목록이 바뀌면 SSE 커넥션 연결된 모든 클라이언트에 변경분 전달
+    // SseEventBuilder 는 한번만 보낼 수 있으므로 emitter 마다 새로 만든다
+    public void send(Supplier<SseEmitter.SseEventBuilder> event) {
+        emitters.values().forEach(subscriber -> subscriber.offer(event));
+    }
+
+    // emitter 별 대기열과 전송 작업
+    private class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                evict();
+                return;
+            }
+            schedule();
+        }
+
+        // 전송 작업이 돌고 있지 않을 때만 새로 올린다
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sseFanoutExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
             try {
-                log.info("[SSE] - SseEmitters 파일 changeRoom 메서드 / try 문 안의 시작");
-                emitter.send(SseEmitter.event()
-                        .name("changeRoom")      // event의 이름 지정
-                        .data(roomInfo));                  // event에 담을 data
-                log.info("[SSE] - SseEmitters 파일 changeRoom 메서드 / try 문 안의 emitter : {}", emitter.toString());
-            } catch (IOException e) {
-                log.info("[SSE] - SseEmitters 파일 changeRoom 메서드 / try 문 예외 처리 시작 !!!");
-                this.emitters.remove(emitter);
-                log.info("[SSE] - ★★★★★★★★SseEmitters 파일 changeRoom 메서드 / emitter list size : {}", emitters.size());
+                Supplier<SseEmitter.SseEventBuilder> event;
+                while (!closed && (event = queue.poll()) != null) {
+                    long start = System.nanoTime();
+                    try {
+                        emitter.send(event.get());
+                    } catch (Exception e) {
+                        log.info("[SSE] - SseEmitters 파일 전송 실패 / emitter 삭제 : {}", e.getMessage());
+                        remove(emitter);
+                        return;
+                    } finally {
+                        sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+                if (closed) {
+                    emitter.complete();
+                }
+            } finally {
+                scheduled.set(false);
             }
-        });
+            // 작업을 끝내는 사이에 들어온 이벤트가 있으면 다시 올린다
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        // 따라오지 못하는 클라이언트 : 목록에서 빼고 연결 종료는 전송 스레드에서 한다 (전송중인 send 와 겹치지 않도록)
+        private void evict() {
+            if (emitters.remove(emitter) == null) {
+                return;
+            }
+            evictedCounter.increment();
+            log.info("[SSE] - SseEmitters 대기열 {}건 가득 참 / 연결 종료", queueSize);
+            close();
+            schedule();
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,28 @@ package com.project.trysketch.repository;
 import com.project.trysketch.entity.Achievement;
 import com.project.trysketch.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 // 1. 기능   : 유저 업적 repository
 // 2. 작성자  : 김재영
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
     List<Achievement> findAllByUser(User user);
+
+    @Query("select a from Achievement a join fetch a.user u where u.id in :userIds")
+    List<Achievement> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 업적 저장, 이미 같은 업적이 있으면 저장하지 않고 0 반환 (insert ignore 는 FK 등 다른 오류까지 무시하므로 쓰지 않는다)
+    // 동시에 같은 업적이 저장되는 경우는 unique 제약 + on duplicate key 로 무시
+    @Transactional
+    @Modifying
+    @Query(value = "insert into achievement (name, user_id, created_at, modified_at) " +
+            "select :name, :userId, now(6), now(6) from dual " +
+            "where not exists (select 1 from achievement where user_id = :userId and name = :name) " +
+            "on duplicate key update id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("userId") Long userId);
 }
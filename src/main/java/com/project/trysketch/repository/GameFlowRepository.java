@@ -2,14 +2,19 @@ package com.project.trysketch.repository;
 
 import com.project.trysketch.entity.GameFlow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
 // 1. 기능   : 게임 진행 repository
 // 2. 작성자  : 김재영, 서혁수, 안은솔, 황미경
-public interface GameFlowRepository extends JpaRepository<GameFlow, Long> {
+public interface GameFlowRepository extends JpaRepository<GameFlow, Long>, GameFlowRepositoryCustom {
     Optional<GameFlow> findByRoomIdAndRoundAndKeywordIndex(Long roomId, int round, int keywordIndex);
 
+    List<GameFlow> findAllByRoomId(Long roomId);
+
     void deleteAllByRoomId(Long roomId);
 
     boolean existsByRoomIdAndRoundAndWebSessionId(Long roomId, int round, String webSessionId);
@@ -17,4 +22,10 @@ public interface GameFlowRepository extends JpaRepository<GameFlow, Long> {
     GameFlow findByRoomIdAndRoundAndWebSessionId(Long roomId, int round, String webSessionId);
 
     List<GameFlow> findAllByWebSessionIdAndRoomId(String webSessionId, Long roomId);
+
+    @Modifying
+    @Query("update GameFlow g set g.imagePath = :imagePath, g.imagePk = :imagePk " +
+            "where g.roomId = :roomId and g.round = :round and g.webSessionId = :webSessionId")
+    int updateImage(@Param("roomId") Long roomId, @Param("round") int round, @Param("webSessionId") String webSessionId,
+                    @Param("imagePath") String imagePath, @Param("imagePk") Long imagePk);
 }
@@ -0,0 +1,11 @@
+package com.project.trysketch.repository;
+
+import com.project.trysketch.entity.GameFlow;
+import java.util.List;
+
+// 1. 기능   : 게임 진행 repository 의 JDBC batch 기능
+// 2. 작성자  : 김재영
+public interface GameFlowRepositoryCustom {
+    // GameFlow 의 id 가 IDENTITY 라 JPA 로는 batch insert 가 안되기 때문에 JDBC 로 한번에 저장
+    void batchInsert(List<GameFlow> gameFlowList);
+}
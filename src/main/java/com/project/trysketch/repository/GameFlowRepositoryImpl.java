@@ -0,0 +1,39 @@
+package com.project.trysketch.repository;
+
+import com.project.trysketch.entity.GameFlow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Types;
+import java.util.List;
+
+// 1. 기능   : 게임 진행 repository 의 JDBC batch 구현부
+// 2. 작성자  : 김재영
+@RequiredArgsConstructor
+public class GameFlowRepositoryImpl implements GameFlowRepositoryCustom {
+
+    private static final String INSERT_SQL = "insert into game_flow " +
+            "(round, keyword_index, keyword, image_path, image_pk, nickname, room_id, web_session_id, is_submitted, user_img_path) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<GameFlow> gameFlowList) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, gameFlowList, gameFlowList.size(), (ps, gameFlow) -> {
+            ps.setInt(1, gameFlow.getRound());
+            ps.setInt(2, gameFlow.getKeywordIndex());
+            ps.setString(3, gameFlow.getKeyword());
+            ps.setString(4, gameFlow.getImagePath());
+            if (gameFlow.getImagePk() != null) {
+                ps.setLong(5, gameFlow.getImagePk());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, gameFlow.getNickname());
+            ps.setLong(7, gameFlow.getRoomId());
+            ps.setString(8, gameFlow.getWebSessionId());
+            ps.setBoolean(9, gameFlow.isSubmitted());
+            ps.setString(10, gameFlow.getUserImgPath());
+        });
+    }
+}
@@ -1,11 +1,59 @@
 package com.project.trysketch.repository;
 
+import com.project.trysketch.dto.response.GameRoomResponseDto;
 import com.project.trysketch.entity.GameRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 // 1. 기능   : 게임 방 repository
 // 2. 작성자 : 김재영
 public interface GameRoomRepository extends JpaRepository<GameRoom, Long> {
     Optional<GameRoom> findByRandomCode(String randomCode);
+
+    // 게임중이 아닌 방의 [방 번호, 난이도, 인원] (서버 시작 시 빠른 입장 인덱스 로드용)
+    @Query("select r.id, r.difficulty, count(u) from GameRoom r left join r.gameRoomUserList u " +
+            "where r.isPlaying = false group by r.id")
+    List<Object[]> findWaitingRoomSeats();
+
+    // 전체 방의 [방 번호, 초대 코드] (서버 시작 시 초대 코드 로드용)
+    @Query("select r.id, r.randomCode from GameRoom r")
+    List<Object[]> findAllRoomCodes();
+
+    // 방 목록 조회 (최신순) : 유저 리스트를 읽지 않고 유저 수만 count, 전체 개수 count 쿼리 없음
+    @Query("select new com.project.trysketch.dto.response.GameRoomResponseDto(" +
+            "r.id, r.title, count(u), r.hostNick, r.isPlaying, r.randomCode, r.createdAt, r.modifiedAt) " +
+            "from GameRoom r left join r.gameRoomUserList u " +
+            "group by r.id " +
+            "order by r.createdAt desc, r.id desc")
+    List<GameRoomResponseDto> findRoomList(Pageable pageable);
+
+    // 방 목록 다음 페이지 조회 (keyset) : 이전 페이지 마지막 방 (createdAt, id) 다음부터
+    @Query("select new com.project.trysketch.dto.response.GameRoomResponseDto(" +
+            "r.id, r.title, count(u), r.hostNick, r.isPlaying, r.randomCode, r.createdAt, r.modifiedAt) " +
+            "from GameRoom r left join r.gameRoomUserList u " +
+            "where r.createdAt < :lastCreatedAt or (r.createdAt = :lastCreatedAt and r.id < :lastId) " +
+            "group by r.id " +
+            "order by r.createdAt desc, r.id desc")
+    List<GameRoomResponseDto> findRoomListAfter(@Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    // 방 설정 변경 (유저 리스트까지 읽지 않도록 엔티티 조회 없이 바로 update)
+    @Modifying(flushAutomatically = true)
+    @Query("update GameRoom r set r.timeLimit = :timeLimit where r.id = :id")
+    int updateTimeLimit(@Param("id") Long id, @Param("timeLimit") Long timeLimit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update GameRoom r set r.difficulty = :difficulty where r.id = :id")
+    int updateDifficulty(@Param("id") Long id, @Param("difficulty") String difficulty);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update GameRoom r set r.resultCount = :resultCount where r.id = :id")
+    int updateResultCount(@Param("id") Long id, @Param("resultCount") int resultCount);
 }
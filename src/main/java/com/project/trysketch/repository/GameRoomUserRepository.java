@@ -3,6 +3,9 @@ package com.project.trysketch.repository;
 import com.project.trysketch.entity.GameRoom;
 import com.project.trysketch.entity.GameRoomUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,5 +32,14 @@ public interface GameRoomUserRepository extends JpaRepository<GameRoomUser, Long
 
     Long countByGameRoomId(Long roomId);
 
+    // 방에 있는 유저 id (입장 순)
+    @Query("select u.userId from GameRoomUser u where u.gameRoom.id = :gameRoomId order by u.id")
+    List<Long> findUserIdsByGameRoomId(@Param("gameRoomId") Long gameRoomId);
+
     void deleteByUserId(Long userId);
+
+    // 방장을 제외한 방 유저들의 ready 상태 초기화
+    @Modifying(flushAutomatically = true)
+    @Query("update GameRoomUser g set g.readyStatus = false where g.gameRoom.id = :gameRoomId and g.userId <> :hostId")
+    int resetReadyStatus(@Param("gameRoomId") Long gameRoomId, @Param("hostId") Long hostId);
 }
\ No newline at end of file
@@ -3,10 +3,23 @@ package com.project.trysketch.repository;
 import com.project.trysketch.entity.History;
 import com.project.trysketch.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // 1. 기능   : 게임 달성업적 Repository
 // 2. 작성자  : 김재영
 public interface HistoryRepository extends JpaRepository<History, Integer> {
     Optional<History> findByUser(User user);
+
+    @Query("select h from History h join fetch h.user u where u.id in :userIds")
+    List<History> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 여러 유저의 플레이타임, 판수를 한번에 증가
+    @Modifying(flushAutomatically = true)
+    @Query("update History h set h.playtime = h.playtime + :playtime, h.trials = h.trials + :trials where h.user.id in :userIds")
+    int increasePlaytimeAndTrials(@Param("userIds") Collection<Long> userIds, @Param("playtime") Long playtime, @Param("trials") Long trials);
 }
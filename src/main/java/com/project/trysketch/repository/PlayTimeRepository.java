@@ -2,10 +2,17 @@ package com.project.trysketch.repository;
 
 import com.project.trysketch.entity.UserPlayTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 // 1. 기능   : playtime Repository
 // 2. 작성자  : 김재영
 public interface PlayTimeRepository extends JpaRepository<UserPlayTime, Integer> {
     List<UserPlayTime> findAllByGameRoomId(Long gameRoomId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserPlayTime p where p.gameRoomId = :gameRoomId")
+    int deleteAllByGameRoomIdInBulk(@Param("gameRoomId") Long gameRoomId);
 }
@@ -3,6 +3,7 @@ package com.project.trysketch.service;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.project.trysketch.entity.Image;
 import com.project.trysketch.repository.ImageRepository;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.io.File;
+import java.io.InputStream;
 import java.util.UUID;
 
 // 1. 기능   : S3 업로드 로직
@@ -30,7 +32,7 @@ public class AmazonS3Service {
     public String bucket;
 
     // 이미지 업로드 (S3, DB)
-    @Transactional
+    // 업로드 스레드에서 호출되므로 S3 전송 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 올리고, Image 저장만 짧은 트랜잭션으로 처리
     public Image upload(File file, String dirName, String nickname) {
         Image image = null;
         if (file != null) {
@@ -40,6 +42,15 @@ public class AmazonS3Service {
         return image;
     }
 
+    // 이미지 업로드 (스트림을 임시 파일 없이 바로 S3로, DB)
+    // S3 전송은 트랜잭션 밖에서, Image 저장만 짧은 트랜잭션으로 처리 (imageRepository.save)
+    public Image upload(InputStream inputStream, long contentLength, String contentType, String dirName, String nickname) {
+        String fileName = dirName + "/" + UUID.randomUUID();     // S3에 저장될 파일 이름
+        Image image = new Image(putS3(inputStream, contentLength, contentType, fileName), nickname);
+        imageRepository.save(image);
+        return image;
+    }
+
     // S3로 파일 업로드 (파일이름 지정, 파일 업로드 메서드 호출)
     @Transactional
     public String upload(File uploadFile, String dirName) {
@@ -56,6 +67,15 @@ public class AmazonS3Service {
         return amazonS3Client.getUrl(bucket, fileName).toString();
     }
 
+    // S3로 스트림 업로드 (길이를 알려줘야 SDK 가 전체를 메모리에 올리지 않는다)
+    public String putS3(InputStream inputStream, long contentLength, String contentType, String fileName) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata).withCannedAcl(CannedAccessControlList.PublicRead));
+        return amazonS3Client.getUrl(bucket, fileName).toString();
+    }
+
     // S3 이미지 삭제
     @Transactional
     public void delete(String fileName) {
@@ -63,6 +83,13 @@ public class AmazonS3Service {
         amazonS3Client.deleteObject(request);
     }
 
+    // 이미지 삭제 (S3, DB), 업로드 스레드에서 호출되므로 S3 요청은 트랜잭션 밖에서 처리
+    public void delete(Image image, String dirName) {
+        imageRepository.deleteById(image.getId());
+        String path = image.getPath();
+        delete(path.substring(path.indexOf(dirName)));
+    }
+
     // JVM 에 저장된 temp file 지우기
     @Transactional
     public void removeNewFile(File targetFile) {
@@ -0,0 +1,68 @@
+package com.project.trysketch.service;
+
+import com.project.trysketch.entity.GameRoom;
+import com.project.trysketch.global.game.GameFlowBuffer;
+import com.project.trysketch.global.game.RoomEventLoop;
+import com.project.trysketch.global.game.RoomJournal;
+import com.project.trysketch.global.game.SubmitTracker;
+import com.project.trysketch.repository.GameRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.util.List;
+
+// 1. 기능   : 서버 재시작 시 진행중이던 게임 복구
+// 2. 작성자 : 안은솔
+// 3. 참고사항 : RoomJournal 에 기록이 남아있는 방마다 제출 현황, 저장 대기중인 GameFlow, 라운드 마감 타이머를 다시 만든다.
+//             방이 없어졌거나 게임중이 아니라면 DB 에 남은 GameFlow, GameFlowCount, playtime 을 지운다.
+//             복구도 방의 RoomEventLoop 에서 실행되므로 복구가 끝나기 전에 들어온 요청은 복구 후에 처리된다
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class GameRecoveryService {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final GameService gameService;
+    private final SubmitTracker submitTracker;
+    private final GameFlowBuffer gameFlowBuffer;
+    private final RoomJournal roomJournal;
+    private final RoomEventLoop roomEventLoop;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverAll() {
+        List<Long> roomIds = roomJournal.getRoomIds();
+        log.info(">>>>>>> [GameRecoveryService - recoverAll] 복구 대상 방 : {}", roomIds);
+        for (Long roomId : roomIds) {
+            roomEventLoop.execute(roomId, () -> recover(roomId));
+        }
+    }
+
+    // 기록을 처음부터 반영해 방 상태 복구
+    private void recover(Long roomId) {
+        long start = System.currentTimeMillis();
+        RoomJournal.RoomState state = roomJournal.replay(roomId);
+        GameRoom gameRoom = gameRoomRepository.findById(roomId).orElse(null);
+
+        if (state == null || gameRoom == null || !gameRoom.isPlaying()) {
+            gameService.cleanUpGame(roomId);
+            return;
+        }
+
+        // 제출 현황 : 참여 유저 slot -> 제출 -> 나간 유저 -> 라운드 순서로 반영
+        submitTracker.open(roomId, state.getRoundMaxNum(), state.getUserIds());
+        state.getSubmits().values().forEach(submit ->
+                submitTracker.forceSubmit(roomId, submit.getRound(), submit.getUserId()));
+        state.getExited().forEach(userId -> submitTracker.leave(roomId, userId));
+        submitTracker.openRound(roomId, state.getCurrentRound());
+        submitTracker.lockRound(roomId, state.getLockedRound());
+
+        // 저장 대기중이던 GameFlow, 라운드 마감 타이머
+        gameFlowBuffer.restore(roomId, state.toGameFlows(roomId), state.isFlushed());
+        gameService.resumeRound(roomId, state.getTimeLimit());
+
+        log.info(">>>>>>> [GameRecoveryService - recover] #{}번 방 {}라운드 복구 / 제출 {}건 ({}ms)",
+                roomId, state.getCurrentRound(), state.getSubmits().size(), System.currentTimeMillis() - start);
+    }
+}
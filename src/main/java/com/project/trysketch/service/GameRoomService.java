@@ -10,15 +10,24 @@ import com.project.trysketch.repository.GameRoomRepository;
 import com.project.trysketch.repository.GameRoomUserRepository;
 import com.project.trysketch.global.exception.CustomException;
 import com.project.trysketch.global.exception.StatusMsgCode;
-import com.project.trysketch.global.utill.sse.SseEmitters;
+import com.project.trysketch.global.game.GameFlowBuffer;
+import com.project.trysketch.global.game.GameResultCache;
+import com.project.trysketch.global.game.KeywordDictionary;
+import com.project.trysketch.global.game.OpenSeatIndex;
+import com.project.trysketch.global.game.RoomCodeRegistry;
+import com.project.trysketch.global.game.RoomMetaCache;
+import com.project.trysketch.global.game.SeatAllocator;
+import com.project.trysketch.global.rtc.SignalingSessionRegistry;
+import com.project.trysketch.global.utill.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.*;
 
 // 1. 기능   : 프로젝트 메인 로직
@@ -33,38 +42,40 @@ public class GameRoomService {
     private final GameRoomUserRepository gameRoomUserRepository;
     private final GameService gameService;
     private final UserService userService;
-    private final SseEmitters sseEmitters;
     private final SseService sseService;
     private final SimpMessageSendingOperations sendingOperations;
+    private final KeywordDictionary keywordDictionary;
+    private final GameResultCache gameResultCache;
+    private final RoomMetaCache roomMetaCache;
+    private final RoomCodeRegistry roomCodeRegistry;
+    private final SeatAllocator seatAllocator;
+    private final OpenSeatIndex openSeatIndex;
+    private final GameFlowBuffer gameFlowBuffer;
+    private final SignalingSessionRegistry signalingSessions;
 
     // ============================== 게임방 조회 ==============================
-    @Transactional
-    public Map<String, Object> getAllGameRoom(Pageable pageable) {
-        // pageable 객체로 GameRoom 을 Page<> 에 담아 가져오기
-        Page<GameRoom> gameRoomPage = gameRoomRepository.findAll(pageable);
+    // lastCreatedAt, lastId 가 있으면 그 방 다음부터 (keyset), 없으면 page 번호로 조회
+    // LastPage 는 count 쿼리 없이 로비 방 개수로 계산한 근사값
+    @Transactional(readOnly = true)
+    public Map<String, Object> getAllGameRoom(Pageable pageable, LocalDateTime lastCreatedAt, Long lastId) {
+        int size = pageable.getPageSize();
 
-        // GameRoom 을 Dto 형태로 담아줄 List 선언
-        List<GameRoomResponseDto> gameRoomList = new ArrayList<>();
+        // 유저 수까지 쿼리에서 계산한 방 목록
+        List<GameRoomResponseDto> gameRoomList = (lastCreatedAt != null && lastId != null)
+                ? gameRoomRepository.findRoomListAfter(lastCreatedAt, lastId, PageRequest.of(0, size))
+                : gameRoomRepository.findRoomList(PageRequest.of(pageable.getPageNumber(), size));
 
-        // GameRoom 의 정보와 LastPage 정보를 담아줄 Map 선언
+        // GameRoom 의 정보와 LastPage, 다음 페이지 조회용 마지막 방 정보를 담아줄 Map 선언
         Map<String, Object> getAllGameRoom = new HashMap<>();
+        getAllGameRoom.put("Rooms", gameRoomList);
+        getAllGameRoom.put("LastPage", (sseService.getRoomCount() + size - 1) / size);
 
-        for (GameRoom gameRoom : gameRoomPage){
-
-            GameRoomResponseDto gameRoomResponseDto = GameRoomResponseDto.builder()
-                    .id(gameRoom.getId())
-                    .title(gameRoom.getTitle())
-                    .hostNick(gameRoom.getHostNick())
-                    .GameRoomUserCount(gameRoom.getGameRoomUserList().size())
-                    .isPlaying(gameRoom.isPlaying())
-                    .createdAt(gameRoom.getCreatedAt())
-                    .modifiedAt(gameRoom.getModifiedAt())
-                    .randomCode(gameRoom.getRandomCode())
-                    .build();
-            gameRoomList.add(gameRoomResponseDto);
+        // 응답의 createdAt 은 초 단위까지라 다음 페이지 조회에는 쓸 수 없으므로 원래 값을 따로 내려준다
+        if (gameRoomList.size() == size) {
+            GameRoomResponseDto last = gameRoomList.get(size - 1);
+            getAllGameRoom.put("LastCreatedAt", last.getCreatedAt().toString());
+            getAllGameRoom.put("LastId", last.getId());
         }
-        getAllGameRoom.put("Rooms", gameRoomList);
-        getAllGameRoom.put("LastPage",gameRoomPage.getTotalPages());
 
         return getAllGameRoom;
     }
@@ -94,13 +105,11 @@ public class GameRoomService {
         String header = userService.validHeader(request);
         HashMap<String, String> extInfo = userService.getGamerInfo(header);
 
-        // 혹시 모를 오류상황으로 현재 User 가 다른 방에 들어가 있다면 gameRoomUser 삭제
-        if (gameRoomUserRepository.existsByUserId(Long.valueOf(extInfo.get(GamerEnum.ID.key())))) {
-            gameRoomUserRepository.deleteByUserId(Long.valueOf(extInfo.get(GamerEnum.ID.key())));
-        }
+        // 혹시 모를 오류상황으로 현재 User 가 다른 방에 들어가 있다면 그 방에서 내보내기
+        deleteStaleGameRoomUser(Long.valueOf(extInfo.get(GamerEnum.ID.key())), null);
 
-        // 초대 코드를 위한 랜덤코드 생성
-        String randomCode = createRandomCode();
+        // 초대 코드를 위한 랜덤코드 생성 (살아있는 방과 겹치지 않음)
+        String randomCode = roomCodeRegistry.allocate();
 
         // 방 정보 생성
         GameRoom gameRoom = GameRoom.builder()
@@ -127,36 +136,23 @@ public class GameRoomService {
         // 게임 방 DB에 저장 및 입장중인 유저 정보 저장
         gameRoomRepository.save(gameRoom);
         gameRoomUserRepository.save(gameRoomUser);
+        roomCodeRegistry.bind(randomCode, gameRoom.getId());
+
+        // 방장 자리 배정, 커밋 후 방 설정 캐시에 반영 (이때부터 빠른 입장 후보)
+        seatAllocator.open(gameRoom.getId());
+        seatAllocator.reserve(gameRoom.getId(), gameRoomUser.getUserId());
+        roomMetaCache.create(gameRoom);
 
         // HashMap 형식으로 방 번호를 response 로 반환
         HashMap<String, String> roomIdInfo = new HashMap<>();
         roomIdInfo.put("roomId", String.valueOf(gameRoom.getId()));
 
-        // SSE event 생성
-        sseEmitters.changeRoom(sseService.getRooms(1));
+        // SSE event 생성 (방 생성)
+        sseService.putRoom(gameRoom, 1);
 
         return roomIdInfo;
     }
 
-    // ============================ 랜덤 코드 생성부 ============================
-    @Transactional
-    public String createRandomCode() {
-        // 초대 코드를 위한 랜덤코드 생성
-        StringBuilder key = new StringBuilder();
-        Random rnd = new Random();
-
-        // 소문자와 숫자 8자리 조합 만들기
-        for (int i = 0; i < 8; i++) {
-            int index = rnd.nextInt(2); // 0~1 중 랜덤
-
-            switch (index) {
-                case 0 -> key.append((char) ((rnd.nextInt(26)) + 97));  //  a~z  (ex. 1+97=98 => (char)98 = 'b')
-                case 1 -> key.append((rnd.nextInt(10)));                // 0~9
-            }
-        }
-        return key.toString();
-    }
-
     // ============================ 초대 게임방 입장 ============================
     @Transactional
     public HashMap<String, Object> enterGameRoom(String randomCode, HttpServletRequest request) {
@@ -164,26 +160,65 @@ public class GameRoomService {
         String header = userService.validHeader(request);
         HashMap<String, String> extInfo = userService.getGamerInfo(header);
 
-        // id로 DB 에서 현재 들어갈 게임방 데이터 찾기
-        GameRoom enterGameRoom = gameRoomRepository.findByRandomCode(randomCode).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        // 초대 코드로 방 번호를 찾고, 방 번호로 DB 에서 현재 들어갈 게임방 데이터 찾기
+        Long roomId = roomCodeRegistry.resolve(randomCode);
+        if (roomId == null) {
+            throw new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND);
+        }
 
         // 게임 방의 상태가 true 이면 게임이 시작중이니 입장 불가능
-        if (enterGameRoom.isPlaying()){
+        if (roomMetaCache.get(roomId).isPlaying()){
             throw new CustomException(StatusMsgCode.ALREADY_PLAYING);
         }
 
-        // 현재 방의 인원이 8명 이상이면 풀방임~
-        Long gameRoomUserCount = gameRoomUserRepository.countByGameRoomIdOrderByUserId(enterGameRoom.getId());
-        if (gameRoomUserCount >= 8) {
+        // DB 에 저장하기 전에 자리부터 잡기, 8명이 다 찼으면 풀방임~ (입장이 실패해 롤백되면 자리는 다시 비워진다)
+        Long userId = Long.valueOf(extInfo.get(GamerEnum.ID.key()));
+        if (seatAllocator.reserve(roomId, userId) < 0) {
             throw new CustomException(StatusMsgCode.FULL_BANG);
         }
 
-        // 혹시 모를 오류상황으로 현재 User 가 다른 방에 들어가 있다면 gameRoomUser 삭제
-        if (gameRoomUserRepository.existsByUserId(Long.valueOf(extInfo.get(GamerEnum.ID.key())))) {
-            gameRoomUserRepository.deleteByUserId(Long.valueOf(extInfo.get(GamerEnum.ID.key())));
+        return joinGameRoom(roomId, extInfo);
+    }
+
+    // ============================== 빠른 입장 ===============================
+    // 게임중이 아니고 자리가 남은 방 중 인원이 가장 많은 방에 자리를 잡고 입장 (difficulty 가 없으면 난이도 무관)
+    @Transactional
+    public HashMap<String, Object> quickJoin(String difficulty, HttpServletRequest request) {
+        // 받아온 헤더로부터 유저 또는 guest 정보를 받아온다.
+        String header = userService.validHeader(request);
+        HashMap<String, String> extInfo = userService.getGamerInfo(header);
+        Long userId = Long.valueOf(extInfo.get(GamerEnum.ID.key()));
+
+        // 인덱스에서 고른 방의 자리를 그 사이 다른 유저가 채웠거나 게임이 시작됐다면 다음 방으로
+        Set<Long> triedRoomIds = new HashSet<>();
+        Long roomId;
+        while ((roomId = openSeatIndex.pick(difficulty, triedRoomIds)) != null) {
+            triedRoomIds.add(roomId);
+            if (isJoinable(roomId) && seatAllocator.reserve(roomId, userId) >= 0) {
+                log.info(">>>>>>> [GameRoomService - quickJoin] userId : {} -> #{}번 방 ({}번째 후보)", userId, roomId, triedRoomIds.size());
+                return joinGameRoom(roomId, extInfo);
+            }
+        }
+        throw new CustomException(StatusMsgCode.JOINABLE_GAMEROOM_NOT_FOUND);
+    }
+
+    // 방이 남아있고 게임중이 아닌지
+    private boolean isJoinable(Long roomId) {
+        try {
+            return !roomMetaCache.get(roomId).isPlaying();
+        } catch (CustomException e) {
+            return false;
         }
+    }
+
+    // 자리를 잡은 방에 입장 : 유저 저장 후 방 번호 반환
+    private HashMap<String, Object> joinGameRoom(Long roomId, HashMap<String, String> extInfo) {
+        GameRoom enterGameRoom = gameRoomRepository.findById(roomId).orElseThrow(
+                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
+        );
+
+        // 혹시 모를 오류상황으로 현재 User 가 다른 방에 들어가 있다면 그 방에서 내보내기
+        deleteStaleGameRoomUser(Long.valueOf(extInfo.get(GamerEnum.ID.key())), roomId);
 
         // 새롭게 게임방에 들어온 유저 생성
         GameRoomUser gameRoomUser = GameRoomUser.builder()
@@ -202,8 +237,8 @@ public class GameRoomService {
         HashMap<String, Object> roomIdInfo = new HashMap<>();
         roomIdInfo.put("roomId", enterGameRoom.getId());
 
-        // SSE event 생성
-        sseEmitters.changeRoom(sseService.getRooms(1));
+        // SSE event 생성 (인원 변경)
+        sseService.putRoom(enterGameRoom, seatAllocator.getSeatedCount(roomId));
 
         return roomIdInfo;
     }
@@ -217,59 +252,80 @@ public class GameRoomService {
             // gameRoomUser 조회 결과가 null 즉, 강퇴로 인해 유저정보가 이미 없어진 상태
             log.info(">>>>>>> 위치 : GameRoomService 의 exitGameRoom 메서드 / 이미 강퇴된 상태면 아무런 로직 실행 없이 null 값을 반환");
             return;
-        } else {
-            GameRoom currentGameRoom = gameRoomUser.getGameRoom();
+        }
+        leaveGameRoom(gameRoomUser);
+    }
 
-            // 게임이 진행중이며, 나가는 유저 포함 3명 이하일 때 게임종료 (3명 미만으로는 게임진행 불가)
-            if(currentGameRoom.isPlaying() && currentGameRoom.getGameRoomUserList().size() <= 3) {
-                gameService.shutDownGame(gameRoomId);
-            }
+    // 유저를 방에서 내보내기 : 게임 종료 / 제출 현황 제외, 퇴장 메세지, 빈 방 삭제 또는 방장 위임, 로비 갱신
+    // 나가기와 다른 방 입장으로 정리되는 이전 방(deleteStaleGameRoomUser)이 같이 사용
+    private void leaveGameRoom(GameRoomUser gameRoomUser) {
+        GameRoom currentGameRoom = gameRoomUser.getGameRoom();
 
-            // 해당 유저를 GameRoomUser 에서 삭제
-            gameRoomUserRepository.deleteByWebSessionId(webSessionId);
+        // 게임이 진행중이며, 나가는 유저 포함 3명 이하일 때 게임종료 (3명 미만으로는 게임진행 불가)
+        if(currentGameRoom.isPlaying() && currentGameRoom.getGameRoomUserList().size() <= 3) {
+            gameService.shutDownGame(currentGameRoom.getId());
+        }
 
-            // 구독된 같은 방 사람들에게 퇴장 메세지 보내기
-            ChatMessage chatMessage = ChatMessage.builder()
-                    .type(ChatMessage.MessageType.LEAVE)
-                    .roomId(currentGameRoom.getId())
-                    .userId(gameRoomUser.getUserId())
-                    .nickname(gameRoomUser.getNickname())
-                    .content(String.format("%s 님이 퇴장하셨습니다.", gameRoomUser.getNickname()))
-                    .build();
+        // 게임이 진행중이라면 나가는 유저를 제출 현황에서 제외
+        if (currentGameRoom.isPlaying()) {
+            gameService.leaveSubmit(currentGameRoom.getId(), gameRoomUser.getUserId());
+        }
 
-            log.info(">>>>>>> 위치 : GameRoomService 의 exitGameRoom 메서드 / 메시지 타입 : {}", chatMessage.getType());
-            log.info(">>>>>>> 위치 : GameRoomService 의 exitGameRoom 메서드 / 메시지 내용 : {}", chatMessage.getContent());
-            log.info(">>>>>>> 위치 : GameRoomService 의 exitGameRoom 메서드 / 나가려는 방 : {}", currentGameRoom.getId());
+        // 해당 유저를 GameRoomUser 에서 삭제, 자리 비우기 (커밋 후)
+        gameRoomUserRepository.deleteByUserId(gameRoomUser.getUserId());
+        seatAllocator.release(currentGameRoom.getId(), gameRoomUser.getUserId());
+
+        // 구독된 같은 방 사람들에게 퇴장 메세지 보내기
+        ChatMessage chatMessage = ChatMessage.builder()
+                .type(ChatMessage.MessageType.LEAVE)
+                .roomId(currentGameRoom.getId())
+                .userId(gameRoomUser.getUserId())
+                .nickname(gameRoomUser.getNickname())
+                .content(String.format("%s 님이 퇴장하셨습니다.", gameRoomUser.getNickname()))
+                .build();
 
-            sendingOperations.convertAndSend("/topic/chat/room/" + currentGameRoom.getId(), chatMessage);
+        log.info(">>>>>>> 위치 : GameRoomService 의 leaveGameRoom 메서드 / 메시지 타입 : {}", chatMessage.getType());
+        log.info(">>>>>>> 위치 : GameRoomService 의 leaveGameRoom 메서드 / 메시지 내용 : {}", chatMessage.getContent());
+        log.info(">>>>>>> 위치 : GameRoomService 의 leaveGameRoom 메서드 / 나가려는 방 : {}", currentGameRoom.getId());
 
-            // 유저가 나간 방의 UserList 정보 가져오기
-            List<GameRoomUser> leftGameRoomUserList = gameRoomUserRepository.findAllByGameRoomId(currentGameRoom.getId());
+        sendingOperations.convertAndSend("/topic/chat/room/" + currentGameRoom.getId(), chatMessage);
 
-            // 남은인원 0명이면 GameRoom 삭제
-            if (leftGameRoomUserList.size() == 0){
-                gameRoomRepository.deleteById(gameRoomUser.getGameRoom().getId());
-            }
+        // 유저가 나간 방의 UserList 정보 가져오기
+        List<GameRoomUser> leftGameRoomUserList = gameRoomUserRepository.findAllByGameRoomId(currentGameRoom.getId());
 
-            // 방장이 방을 나갔고, GameRoom 에 User 남아있을 경우
-            if (gameRoomUser.getUserId().equals(currentGameRoom.getHostId()) && !leftGameRoomUserList.isEmpty()) {
+        // 남은인원 0명이면 GameRoom 삭제
+        if (leftGameRoomUserList.size() == 0){
+            gameRoomRepository.deleteById(gameRoomUser.getGameRoom().getId());
+            keywordDictionary.release(currentGameRoom.getId());
+            gameResultCache.evict(currentGameRoom.getId());
+            roomMetaCache.evict(currentGameRoom.getId());
+            roomCodeRegistry.release(currentGameRoom.getRandomCode(), currentGameRoom.getId());
+            seatAllocator.close(currentGameRoom.getId());
+            sseService.removeRoom(currentGameRoom.getId());
+        }
 
-                // 게임 방 유저들중 현재 방장 다음으로 들어온 UserId 가져오기
-                GameRoomUser newHost = leftGameRoomUserList.get(0);
+        // 방장이 방을 나갔고, GameRoom 에 User 남아있을 경우
+        if (gameRoomUser.getUserId().equals(currentGameRoom.getHostId()) && !leftGameRoomUserList.isEmpty()) {
 
-                // gameRoomUser 정보로 새로운 Host 의 id 와 nickname 가져오기
-                Long hostId = newHost.getUserId();
-                String hostNick = newHost.getNickname();
+            // 게임 방 유저들중 현재 방장 다음으로 들어온 UserId 가져오기
+            GameRoomUser newHost = leftGameRoomUserList.get(0);
 
-                // 새로운 Host 가 선정되어 id 와 nickname 을 업데이트
-                currentGameRoom.GameRoomUpdate(hostId, hostNick);
+            // gameRoomUser 정보로 새로운 Host 의 id 와 nickname 가져오기
+            Long hostId = newHost.getUserId();
+            String hostNick = newHost.getNickname();
 
-                // 새로운 Host 의 readyStatus 를 true 로 변경
-                newHost.update(true);
-            }
+            // 새로운 Host 가 선정되어 id 와 nickname 을 업데이트
+            currentGameRoom.GameRoomUpdate(hostId, hostNick);
+            roomMetaCache.updateHost(currentGameRoom.getId(), hostId);
+
+            // 새로운 Host 의 readyStatus 를 true 로 변경
+            newHost.update(true);
+        }
+
+        // SSE event 생성 (인원, 방장, 게임 여부 변경)
+        if (!leftGameRoomUserList.isEmpty()) {
+            sseService.putRoom(currentGameRoom, leftGameRoomUserList.size());
         }
-        // SSE event 생성
-        sseEmitters.changeRoom(sseService.getRooms(-1));
     }
 
     // ======================== 유저별 웹세션 ID 업데이트 =========================
@@ -281,16 +337,23 @@ public class GameRoomService {
         log.info(">>>>>>>> userId {}", gamerId);
         log.info(">>>>>>>> gameRoomId {}", gameRoomId);
 
-        // 해당 User 데이터로 GameRoomUser 데이터 가져오기
+        // 해당 User 데이터로 GameRoomUser 데이터 가져오기 (이 방의 유저가 아니면 입장 거절)
         GameRoomUser gameRoomUser = gameRoomUserRepository.findByUserIdAndGameRoomId(gamerId, gameRoomId);
+        if (gameRoomUser == null) {
+            throw new CustomException(StatusMsgCode.GAME_ROOM_USER_NOT_FOUND);
+        }
 
         // 해당 방 정보 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(gameRoomId).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(gameRoomId);
 
         // 해당 GameRoomUser 에 WebSessionId 업데이트
+        String oldWebSessionId = gameRoomUser.getWebSessionId();
         gameRoomUser.update(gameRoom.getHostId().equals(gamerId), webSessionId);
+
+        // 게임 도중 재접속했다면 이미 제출한 GameFlow 도 새 webSessionId 로 옮긴다 (제출 현황 slot 은 유저 id 기준이라 그대로)
+        if (gameRoom.isPlaying() && !webSessionId.equals(oldWebSessionId)) {
+            gameFlowBuffer.updateWebSessionId(gameRoomId, gamerId, webSessionId);
+        }
     }
 
     // =================== 본인을 제외한 GameRoom 의 유저 리스트 ===================
@@ -352,9 +415,7 @@ public class GameRoomService {
     @Transactional
     public List<Map<String, Object>> getAllGameRoomUsers(Long gameRoomId) {
         // 해당 방의 정보를 가져와서 Host id 조회
-        GameRoom gameRoom = gameRoomRepository.findById(gameRoomId).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(gameRoomId);
 
         // 해당 방 번호로 gameRoomUser 의 List 를 조회하여 원하는대로 가공
         List<Map<String, Object>> attendee = new ArrayList<>();
@@ -373,6 +434,12 @@ public class GameRoomService {
 
     }
 
+    // ===================== 해당 방에 접속중인 유저인지 확인 ======================
+    @Transactional(readOnly = true)
+    public boolean isGameRoomUser(Long gameRoomId, String webSessionId) {
+        return gameRoomUserRepository.findByGameRoomIdAndWebSessionId(gameRoomId, webSessionId) != null;
+    }
+
     // ======================== 접속한 유저의 webSessionId  =======================
     @Transactional
     public Long getRoomId(String webSessionId) {
@@ -382,4 +449,22 @@ public class GameRoomService {
         return gameRoomUser.getGameRoom().getId();
     }
 
+    // 다른 방에 남아있던 gameRoomUser 정리, 그 방의 시그널링 세션 목록에서도 커밋 후 제외
+    // 다른 방이었다면 나가기와 같이 처리 (방장 위임, 빈 방 삭제, 로비 인원 갱신), 지금 들어가는 방이라면 유저 정보만 삭제
+    private void deleteStaleGameRoomUser(Long userId, Long roomId) {
+        GameRoomUser staleGameRoomUser = gameRoomUserRepository.findByUserId(userId);
+        if (staleGameRoomUser == null) {
+            return;
+        }
+        if (staleGameRoomUser.getGameRoom().getId().equals(roomId)) {
+            gameRoomUserRepository.deleteByUserId(userId);
+        } else {
+            log.info(">>>>>>> [GameRoomService - deleteStaleGameRoomUser] userId : {} / 이전 방 #{}번에서 퇴장", userId, staleGameRoomUser.getGameRoom().getId());
+            leaveGameRoom(staleGameRoomUser);
+        }
+        String staleWebSessionId = staleGameRoomUser.getWebSessionId();
+        if (staleWebSessionId != null) {
+            AfterCommit.run(() -> signalingSessions.leaveRoom(staleWebSessionId));
+        }
+    }
 }
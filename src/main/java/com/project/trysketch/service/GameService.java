@@ -3,22 +3,31 @@ package com.project.trysketch.service;
 import com.project.trysketch.dto.request.GameFlowRequestDto;
 import com.project.trysketch.entity.*;
 import com.project.trysketch.dto.GamerEnum;
-import com.project.trysketch.global.utill.sse.SseEmitters;
+import com.project.trysketch.global.game.GameFlowBuffer;
+import com.project.trysketch.global.game.GameResultCache;
+import com.project.trysketch.global.game.KeywordDictionary;
+import com.project.trysketch.global.game.RoomEventLoop;
+import com.project.trysketch.global.game.RoomJournal;
+import com.project.trysketch.global.game.RoomMetaCache;
+import com.project.trysketch.global.game.RoundTimer;
+import com.project.trysketch.global.game.SubmitTracker;
+import com.project.trysketch.global.utill.AfterCommit;
 import com.project.trysketch.repository.*;
 import com.project.trysketch.global.exception.CustomException;
 import com.project.trysketch.global.exception.StatusMsgCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.io.*;
+import java.security.Principal;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 // 1. 기능   : 프로젝트 메인 로직
 // 2. 작성자 : 김재영, 황미경, 안은솔
@@ -29,22 +38,26 @@ public class GameService {
 
     private final GameRoomRepository gameRoomRepository;
     private final GameRoomUserRepository gameRoomUserRepository;
-    private final AdjectiveRepository adjectiveRepository;
-    private final NounRepository nounRepository;
     private final GameFlowRepository gameFlowRepository;
     private final GameFlowCountRepository gameFlowCountRepository;
     private final PlayTimeRepository playTimeRepository;
-    private final UserRepository userRepository;
     private final HistoryRepository historyRepository;
-    private final AmazonS3Service s3Service;
     private final UserService userService;
     private final HistoryService historyService;
     private final SseService sseService;
-    private final SseEmitters sseEmitters;
     private final SimpMessageSendingOperations sendingOperations;
-    private final int adSize = 117;
-    private final int nounSize = 1335;
-    private final String dirName = "static";
+    private final SubmitTracker submitTracker;
+    private final GameFlowBuffer gameFlowBuffer;
+    private final KeywordDictionary keywordDictionary;
+    private final GameResultCache gameResultCache;
+    private final ImageUploadService imageUploadService;
+    private final RoundTimer roundTimer;
+    private final RoomEventLoop roomEventLoop;
+    private final RoomJournal roomJournal;
+    private final RoomMetaCache roomMetaCache;
+
+    @Value("${game.submit.audit:false}")
+    private boolean submitAudit;           // 라운드별 제출 인원을 GameFlowCount 에 기록할지 여부
 
     // convertAndSend 는 객체를 인자로 넘겨주면 자동으로 Message 객체로 변환 후 도착지로 전송한다.
 
@@ -52,10 +65,10 @@ public class GameService {
     // requestDto 필요한 정보
     // token, roomId
     @Transactional
-    public void startGame(GameFlowRequestDto requestDto) {
+    public void startGame(GameFlowRequestDto requestDto, Principal principal) {
 
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - startGame] >>>>>>>>>>>>>>>>>>>>>>>>");
         log.info(">>>>>>> [GameService - startGame] RoomId : {}", requestDto.getRoomId());
         log.info(">>>>>>> [GameService - startGame] gamerInfo id : {}", gamerInfo.get(GamerEnum.ID.key()));
@@ -71,6 +84,11 @@ public class GameService {
             throw new CustomException(StatusMsgCode.HOST_AUTHORIZATION_NEED);
         }
 
+        // 이미 시작된 방이라면 (중복 요청) 진행중인 게임의 제출 현황, 타이머, 기록을 덮어쓰지 않는다
+        if (gameRoom.isPlaying()) {
+            throw new CustomException(StatusMsgCode.ALREADY_PLAYING);
+        }
+
         // 현재 방의 유저 정보 가져오기
         List<GameRoomUser> gameRoomUserList = gameRoomUserRepository.findAllByGameRoom(gameRoom);
 
@@ -102,30 +120,41 @@ public class GameService {
         // GameRoom의 roundMaxNum(최대 라운드)을 저장
         gameRoom.RoundMaxNumUpdate(gameRoom.getGameRoomUserList().size());
         log.info(">>>>>>>>>>>>>> [GameService - startGame 메서드, gameRoom.getRoundMaxNum()] {}", gameRoom.getRoundMaxNum());
-
-        // isIngame 으로 구독하고 있는 User 에게 start 메세지 전송
-        Map<String, Boolean> message = new HashMap<>();
-        message.put("isIngame", true);
-        sendingOperations.convertAndSend("/topic/game/start/" + requestDto.getRoomId(), message);
-
-        // SSE event 생성
-        sseEmitters.changeRoom(sseService.getRooms(0));
+        roomMetaCache.updateStart(gameRoom.getId(), gameRoom.getRoundMaxNum());
+
+        // 라운드별 제출 현황 생성 (유저 순서대로 slot 부여)
+        // 롤백되면 시작되지 않은 방이므로 커밋 후에 열고, 열린 뒤에 start 메세지 전송
+        Long roomId = gameRoom.getId();
+        int roundMaxNum = gameRoom.getRoundMaxNum();
+        Long timeLimit = gameRoom.getTimeLimit();
+        List<Long> userIdList = gameRoomUserList.stream().map(GameRoomUser::getUserId).collect(Collectors.toList());
+        AfterCommit.run(() -> {
+            submitTracker.open(roomId, roundMaxNum, userIdList);
+            roundTimer.open(roomId, timeLimit);
+            roomJournal.start(roomId, roundMaxNum, timeLimit, userIdList);
+
+            // isIngame 으로 구독하고 있는 User 에게 start 메세지 전송
+            Map<String, Boolean> message = new HashMap<>();
+            message.put("isIngame", true);
+            sendingOperations.convertAndSend("/topic/game/start/" + roomId, message);
+        });
+
+        // SSE event 생성 (게임 시작)
+        sseService.putRoom(gameRoom, gameRoomUserList.size());
     }
 
     // 방에 입장시 타임 리미트, 난이도 조절
     // requestDto 필요한 정보
     // token, roomId, webSessionId
-    public void getGameMode(GameFlowRequestDto requestDto) {
+    public void getGameMode(GameFlowRequestDto requestDto, Principal principal) {
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>> [GameService - getGameMode] #{}번 방 / 요청한 유저의 token : {}", requestDto.getRoomId(), requestDto.getToken());
         log.info(">>>>>>> [GameService - getGameMode] #{}번 방 / 요청한 유저의 검증결과 / 유저 아이디 : {}", requestDto.getRoomId(), gamerInfo.get(GamerEnum.ID.key()));
         log.info(">>>>>>> [GameService - getGameMode] #{}번 방 / 요청한 유저의 검증결과 / 유저 닉네임 : {}", requestDto.getRoomId(), gamerInfo.get(GamerEnum.NICK.key()));
 
         // 현재 방 정보 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
         log.info(">>>>>>> [GameService - getGameMode] #{}번 방 / 요청한 유저의 웹세션 ID : {}", requestDto.getRoomId(), requestDto.getWebSessionId());
 
         Map<String, Object> message = new HashMap<>();
@@ -144,9 +173,9 @@ public class GameService {
     // requestDto 필요한 정보
     // token, roomId
     @Transactional
-    public void endGame(GameFlowRequestDto requestDto) {
+    public void endGame(GameFlowRequestDto requestDto, Principal principal) {
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - endGame] >>>>>>>>>>>>>>>>>>>>>>>>");
         log.info(">>>>>>> [GameService - endGame] RoomId : {}", requestDto.getRoomId());
         log.info(">>>>>>> [GameService - endGame] gamerInfo id : {}", gamerInfo.get(GamerEnum.ID.key()));
@@ -170,24 +199,27 @@ public class GameService {
 
         // GameRoom 에서 진행된 모든 GameFlow 삭제
         gameFlowRepository.deleteAllByRoomId(gameRoom.getId());
+        gameFlowBuffer.discard(gameRoom.getId());
+        imageUploadService.clear(gameRoom.getId());
+        gameResultCache.evict(gameRoom.getId());
         log.info(">>>>>>> [GameService - endGame] gameFlow 다 삭제했다!");
 
         // GameRoom 에서 진행된 모든 GameFlowCount 삭제
         gameFlowCountRepository.deleteAllByRoomId(gameRoom.getId());
+        submitTracker.close(gameRoom.getId());
+        roundTimer.close(gameRoom.getId());
+        roomJournal.delete(gameRoom.getId());
 
         // GameRoom 의 상태를 false 로 변경
         gameRoom.GameRoomStatusUpdate(false);
         log.info(">>>>>>> [GameService - endGame] 방 상태 변경 false");
         gameRoom.update(0);
-
-        // 현재 방의 유저 정보 가져오기
-        List<GameRoomUser> gameRoomUserList = gameRoomUserRepository.findAllByGameRoomId(gameRoom.getId());
+        roomMetaCache.updatePlaying(gameRoom.getId(), false);
+        roomMetaCache.updateResultCount(gameRoom.getId(), 0);
 
         // 현재 방의 모든 유저의 playTime 정보 가져오기
         List<UserPlayTime> userPlayTimeList = playTimeRepository.findAllByGameRoomId(gameRoom.getId());
-        log.info(">>>>>>> [GameService - endGame] playtime 가져왔다");
         log.info(">>>>>>> [GameService - endGame] playtime 의 size : {}", userPlayTimeList.size());
-        log.info(">>>>>>> [GameService - endGame] 현재방의 인원수 : {}", gameRoomUserList.size());
 
         // 현재 시간 저장
         LocalDateTime endTime = LocalDateTime.of(
@@ -198,74 +230,51 @@ public class GameService {
                 LocalDateTime.now().getMinute(),
                 LocalDateTime.now().getSecond());
 
-        // 방장 제외한 모든 유저들의 ready 상태를 false 로 변경
-        for (GameRoomUser gameRoomUsers : gameRoomUserList) {
-            if (!gameRoomUsers.getUserId().equals(gameRoom.getHostId())) {
-                gameRoomUsers.update(false);
-                gameRoomUserRepository.save(gameRoomUsers);
+        // 회원 유저별 실질적인 플레이타임(분), webSessionId 계산
+        Map<Long, Long> playtimeMap = new HashMap<>();
+        Map<Long, String> webSessionIdMap = new HashMap<>();
+        for (UserPlayTime userPlayTime : userPlayTimeList) {
+            GameRoomUser gameRoomUser = userPlayTime.getGameRoomUser();
+            if (gameRoomUser == null || gameRoomUser.getUserId() >= 10000) {
+                continue;
             }
-            log.info(">>>>>>> [GameService - endGame] gameRoomUser ready 상태 false 로 변경");
-            // 방장은 readyStatus 가 false 가 되는 경우가 없음 다시 true 로 만들 필요없음
-
-            if (gameRoomUsers.getUserId() < 10000) {
-                for (UserPlayTime userPlayTime : userPlayTimeList) {
-                    // GameRoomUser 와 현재 for 문의 userPlayTime 의 주인이 같다면
-                    if (gameRoomUsers.equals(userPlayTime.getGameRoomUser())) {
-
-                        // 게임 종료시간 업데이트
-                        userPlayTime.updateUserPlayTime(endTime);
-
-                        log.info(">>>>>>> [GameService - endGame] userId {}", gameRoomUsers.getUserId());
-
-                        // 유저 정보 가져오기
-                        User currentUser = userRepository.findById(gameRoomUsers.getUserId()).orElseThrow(
-                                () -> new CustomException(StatusMsgCode.USER_NOT_FOUND)
-                        );
-
-                        // startGame 과 endGame 의 차이 구하기
-                        Duration duration = Duration.between(userPlayTime.getPlayStartTime(), userPlayTime.getPlayEndTime());
-
-                        // 분 단위로 변환
-                        Long difference = duration.getSeconds() / 60;
-                        log.info(">>>>>>> [GameService - endGame] 실질적인 플레이타임 {}", difference);
-
-                        // 해당 history 에 실질적인 플레이타임 업데이트
-                        historyRepository.save(currentUser.getHistory().updatePlaytime(difference));
-
-                        // 유저가 획득한 playtime 관련 업적 리스트
-                        List<String> timeTrophyList = historyService.getTrophyOfTime(currentUser);
+            Duration duration = Duration.between(userPlayTime.getPlayStartTime(), endTime);
+            playtimeMap.put(gameRoomUser.getUserId(), duration.getSeconds() / 60);
+            webSessionIdMap.put(gameRoomUser.getUserId(), gameRoomUser.getWebSessionId());
+        }
+        log.info(">>>>>>> [GameService - endGame] 실질적인 플레이타임 {}", playtimeMap);
 
-                        // 해당 플레이타임 삭제
-                        playTimeRepository.delete(userPlayTime);
-                        log.info(">>>>>>> [GameService - endGame] playtime 지웠다");
+        // 업적 확인을 위해 이번 게임이 반영되기 전의 history 를 한번에 조회
+        List<History> historyList = playtimeMap.isEmpty() ? List.of() : historyRepository.findAllByUserIdIn(playtimeMap.keySet());
 
-                        // 해당 history 에 실질적인 판수 업데이트
-                        historyRepository.save(currentUser.getHistory().updateTrials(1L));
+        // 플레이타임이 같은 유저끼리 묶어서 플레이타임, 판수를 한번에 증가 (보통 모두 같은 시간에 시작하므로 1번)
+        Map<Long, List<Long>> userIdsByPlaytime = playtimeMap.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        userIdsByPlaytime.forEach((playtime, userIds) -> historyRepository.increasePlaytimeAndTrials(userIds, playtime, 1L));
 
-                        // 유저가 획득한 trial 관련 업적 리스트
-                        List<String> trialTrophyList = historyService.getTrophyOfTrial(currentUser);
+        // 방장 제외한 모든 유저들의 ready 상태를 false 로 변경
+        // 방장은 readyStatus 가 false 가 되는 경우가 없음 다시 true 로 만들 필요없음
+        gameRoomUserRepository.resetReadyStatus(gameRoom.getId(), gameRoom.getHostId());
 
-                        // 플레이타임 list 와 판수 list 를 하나로 만들기
-                        List<String> responseList = Stream.concat(timeTrophyList.stream(), trialTrophyList.stream()).collect(Collectors.toList());
+        // 해당 방의 플레이타임 삭제
+        playTimeRepository.deleteAllByGameRoomIdInBulk(gameRoom.getId());
+        log.info(">>>>>>> [GameService - endGame] playtime 지웠다");
 
-                        // 얻는 업적이 있을 경우
-                        if (responseList.size() != 0) {
-                            Map<String, Object> message = new HashMap<>();
-                            message.put("achievement", responseList);
-                            sendingOperations.convertAndSend("/queue/game/achievement/" + gameRoomUsers.getWebSessionId(), message);
-                        }
-                    }
-                }
-            }
-        }
+        // 유저가 획득한 playtime, trial 관련 업적은 커밋 후 전송
+        Map<Long, List<String>> trophyMap = historyService.getTrophyOfGame(historyList, playtimeMap, 1L);
+        AfterCommit.run(() -> trophyMap.forEach((userId, responseList) -> {
+            Map<String, Object> message = new HashMap<>();
+            message.put("achievement", responseList);
+            sendingOperations.convertAndSend("/queue/game/achievement/" + webSessionIdMap.get(userId), message);
+        }));
 
         // end 로 구독하고 있는 User 에게 end 메세지 전송
         Map<String, Boolean> message = new HashMap<>();
         message.put("end", true);
         sendingOperations.convertAndSend("/topic/game/end/" + requestDto.getRoomId(), message);
 
-        // SSE event 생성
-        sseEmitters.changeRoom(sseService.getRooms(0));
+        // SSE event 생성 (게임 종료)
+        sseService.putRoom(gameRoom, gameRoom.getGameRoomUserList().size());
     }
 
     // 강제 종료( 비정상적인 종료 )
@@ -284,12 +293,19 @@ public class GameService {
 
         // GameRoom 에서 진행된 모든 GameFlow 삭제
         gameFlowRepository.deleteAllByRoomId(gameRoom.getId());
+        gameFlowBuffer.discard(gameRoom.getId());
+        imageUploadService.clear(gameRoom.getId());
+        gameResultCache.evict(gameRoom.getId());
 
         // GameRoom 에서 진행된 모든 GameFlowCount 삭제
         gameFlowCountRepository.deleteAllByRoomId(gameRoom.getId());
+        submitTracker.close(gameRoom.getId());
+        roundTimer.close(gameRoom.getId());
+        roomJournal.delete(gameRoom.getId());
 
         // GameRoom 의 상태를 false 로 변경
         gameRoom.GameRoomStatusUpdate(false);
+        roomMetaCache.updatePlaying(gameRoom.getId(), false);
 
         // 현재 방에 남은 모든 유저 정보 가져오기
         List<GameRoomUser> gameRoomUserList = gameRoomUserRepository.findAllByGameRoomId(gameRoom.getId());
@@ -317,6 +333,16 @@ public class GameService {
         sendingOperations.convertAndSend("/topic/game/shutdown/" + gameRoomId, message);
     }
 
+    // 서버 재시작 후 더 이상 진행할 수 없는 게임의 남은 데이터 삭제 (방이 없거나 게임중이 아닌 경우)
+    @Transactional
+    public void cleanUpGame(Long gameRoomId) {
+        gameFlowRepository.deleteAllByRoomId(gameRoomId);
+        gameFlowCountRepository.deleteAllByRoomId(gameRoomId);
+        playTimeRepository.deleteAllByGameRoomIdInBulk(gameRoomId);
+        roomJournal.delete(gameRoomId);
+        log.info(">>>>>>> [GameService - cleanUpGame] #{}번 방 남은 GameFlow, GameFlowCount, playtime 삭제", gameRoomId);
+    }
+
     // 최초 디폴트 제시어 던져주기 -> 방장만 호출 가능
     // requestDto 필요한 정보
     // token, roomId, webSessionId
@@ -328,42 +354,18 @@ public class GameService {
         // 해당 gameRoom 의 전체 유저 리스트 조회
         List<GameRoomUser> gameRoomUserList = gameRoomUserRepository.findAllByGameRoomId(requestDto.getRoomId());
 
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
 
         Map<String, Object> message = new HashMap<>();
-        Map<String, Long> submitCount = new HashMap<>();          // 제출 인원 / 총 인원
-        Map<Integer, String> keywordList = new HashMap<>();     // 키워드 리스트
+        Map<String, Integer> submitCount = new HashMap<>();       // 제출 인원 / 총 인원
 
+        // 난이도 easy 이냐 hard 이냐에 따라 가져오는 키워드가 다르다 (hard : 형용사 + 명사)
+        // 메모리에 올려둔 사전에서 해당 방에 아직 나오지 않은 키워드만 뽑는다
         log.info(">>>>>>>> [GameService - getInGameData] #{}번 방 / 현재 방의 난이도 : {}",gameRoom.getId() ,gameRoom.getDifficulty());
-        // 난이도 easy 이냐 hard 이냐에 따라 가져오는 키워드가 다르다
-        switch (gameRoom.getDifficulty()) {
-            case "easy" -> {
-                log.info(">>>>>>>> [GameService - getInGameData] #{}번 방 / easy 난이도 키워드 생성",gameRoom.getId());
-                for (int i = 0; i < gameRoomUserList.size(); i++) {
-                    // 명사 리스트중 1개
-                    int nounId = (int) (Math.random() * nounSize + 1);
-                    Noun noun = nounRepository.findById(nounId).orElse(null);
-
-                    keywordList.put(i, noun.getNoun());
-                }
-            }
-            case "hard" -> {
-                log.info(">>>>>>>> [GameService - getInGameData] #{}번 방 / hard 난이도 키워드 생성",gameRoom.getId());
-                for (int i = 0; i < gameRoomUserList.size(); i++) {
-                    // 형용사 리스트중 1개
-                    int adId = (int) (Math.random() * adSize + 1);
-                    Adjective adjective = adjectiveRepository.findById(adId).orElse(null);
-
-                    // 명사 리스트중 1개
-                    int nounId = (int) (Math.random() * nounSize + 1);
-                    Noun noun = nounRepository.findById(nounId).orElse(null);
-
-                    keywordList.put(i, adjective.getAdjective() + " " + noun.getNoun());
-                }
-            }
-        }
+        List<String> keywordList = keywordDictionary.draw(gameRoom.getId(), gameRoom.getDifficulty(), gameRoomUserList.size());
+
+        // 첫 라운드 서버 마감 시간 등록
+        long deadline = openRound(gameRoom.getId(), 1);
 
         log.info(">>>>>>>> [GameService - getInGameData] #{}번 방 / 키워드 전송 시작",gameRoom.getId());
         // GameRoomUser 돌면서 키워드 전송
@@ -374,57 +376,45 @@ public class GameService {
             message.put("keyword", keywordList.get(i));
             message.put("keywordIndex", i + 1);
             message.put("timeLimit", gameRoom.getTimeLimit());
+            message.put("deadline", deadline);
 
             sendingOperations.convertAndSend("/queue/game/ingame-data/" + webSessionId, message);
         }
 
         log.info(">>>>>>>> [GameService - getInGameData] #{}번 방 / 키워드 전송 완료",gameRoom.getId());
-        Long maxCount = gameRoomUserRepository.countByGameRoomId(requestDto.getRoomId());
 
-        submitCount.put("trueCount", 0L);
-        submitCount.put("maxTrueCount", maxCount);
+        // 첫 라운드 제출 현황은 게임 시작 시 생성되어 있음
+        SubmitTracker.SubmitCount count = submitTracker.getCount(requestDto.getRoomId(), 1);
+        submitCount.put("trueCount", count.getTrueCount());
+        submitCount.put("maxTrueCount", count.getMaxTrueCount());
 
-        log.info(">>>>>>> [GameService - getInGameData] #{} 번 방의 현재 인원 : {}", requestDto.getRoomId(), maxCount);
+        log.info(">>>>>>> [GameService - getInGameData] #{} 번 방의 현재 인원 : {}", requestDto.getRoomId(), count.getMaxTrueCount());
         sendingOperations.convertAndSend("/topic/game/true-count/" + requestDto.getRoomId(), submitCount);
 
         log.info(">>>>>>>> [GameService - getInGameData] #{}번 방 / 카운트 전송 완료",gameRoom.getId());
-
-        // 방장이 첫 라운드 gameFlowCount 미리 생성
-        String hostWebSessionId = gameRoomUserRepository.findByUserId(gameRoom.getHostId()).getWebSessionId();
-        if (requestDto.getWebSessionId().equals(hostWebSessionId)) {
-            log.info(">>>>>>> [GameService - getInGameData] 방장이 gameFlowCount 생성");
-            GameFlowCount gameFlowCount = GameFlowCount.builder()
-                    .gameFlowCount(0)
-                    .roomId(requestDto.getRoomId())
-                    .round(1)
-                    .build();
-            gameFlowCountRepository.save(gameFlowCount);
-        }
     }
 
     // 타임 리미트 변경
     // requestDto 필요한 정보
     // token, roomId
     @Transactional
-    public void changeTimeLimit(GameFlowRequestDto requestDto, String changeTime) {
+    public void changeTimeLimit(GameFlowRequestDto requestDto, String changeTime, Principal principal) {
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - changeTimeLimit] >>>>>>>>>>>>>>>>>>>>>>>>");
         log.info(">>>>>>> [GameService - changeTimeLimit] RoomId : {}", requestDto.getRoomId());
         log.info(">>>>>>> [GameService - changeTimeLimit] gamerInfo id : {}", gamerInfo.get(GamerEnum.ID.key()));
         log.info(">>>>>>> [GameService - changeTimeLimit] gamerInfo nickname : {}", gamerInfo.get(GamerEnum.NICK.key()));
 
         // 현재 방 정보 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
-        log.info(">>>>>>> [GameService - changeTimeLimit] Repo 에서 찾은 방 번호 : {}", gameRoom.getId());
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
+        log.info(">>>>>>> [GameService - changeTimeLimit] 캐시에서 찾은 방 번호 : {}", gameRoom.getId());
 
         // 방장이 아닐경우
-        if (!gameRoom.getHostId().toString().equals(gamerInfo.get(GamerEnum.ID.key()))) {
+        if (!gameRoom.isHost(gamerInfo.get(GamerEnum.ID.key()))) {
             throw new CustomException(StatusMsgCode.HOST_AUTHORIZATION_NEED);
         }
-        log.info(">>>>>>> [GameService - changeTimeLimit] Repo 에서 찾은 hostID : {}", gameRoom.getHostId());
+        log.info(">>>>>>> [GameService - changeTimeLimit] 캐시에서 찾은 hostID : {}", gameRoom.getHostId());
         log.info(">>>>>>> [GameService - changeTimeLimit] 토큰에서 가져온 hostID : {}", gamerInfo.get(GamerEnum.ID.key()));
 
         Map<String, Object> message = new HashMap<>();
@@ -440,7 +430,8 @@ public class GameService {
                 if (currentTimeLimit <= 150000L) {
                     log.info(">>>>>>> [GameService - changeTimeLimit] 타임 리미트 증가 / #{}번 방 : 타임 리미트 {} 로 변경", requestDto.getRoomId(), currentTimeLimit);
                     message.put("timeLimit", currentTimeLimit);
-                    gameRoom.timeLimitUpdate(currentTimeLimit);     // 변경된 타임리미트로 방 정보 변경
+                    gameRoomRepository.updateTimeLimit(gameRoom.getId(), currentTimeLimit);     // 변경된 타임리미트로 방 정보 변경
+                    roomMetaCache.updateTimeLimit(gameRoom.getId(), currentTimeLimit);
                     sendingOperations.convertAndSend("/topic/game/time-limit/" + requestDto.getRoomId(), message);
                 } else {
                     throw new CustomException(StatusMsgCode.MINMAX_ROUND_TIME);
@@ -452,7 +443,8 @@ public class GameService {
                 if (currentTimeLimit >= 30000L) {
                     log.info(">>>>>>> [GameService - changeTimeLimit] 타임 리미트 감소 / #{}번 방 : 타임 리미트 {} 로 변경", requestDto.getRoomId(), currentTimeLimit);
                     message.put("timeLimit", currentTimeLimit);
-                    gameRoom.timeLimitUpdate(currentTimeLimit);      // 변경된 타임리미트로 방 정보 변경
+                    gameRoomRepository.updateTimeLimit(gameRoom.getId(), currentTimeLimit);      // 변경된 타임리미트로 방 정보 변경
+                    roomMetaCache.updateTimeLimit(gameRoom.getId(), currentTimeLimit);
                     sendingOperations.convertAndSend("/topic/game/time-limit/" + requestDto.getRoomId(), message);
                 } else {
                     throw new CustomException(StatusMsgCode.MINMAX_ROUND_TIME);
@@ -465,25 +457,23 @@ public class GameService {
     // requestDto 필요한 정보
     // token, roomId, difficulty
     @Transactional
-    public void changeDifficulty(GameFlowRequestDto requestDto) {
+    public void changeDifficulty(GameFlowRequestDto requestDto, Principal principal) {
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - changeDifficulty] >>>>>>>>>>>>>>>>>>>>>>>>");
         log.info(">>>>>>> [GameService - changeDifficulty] RoomId : {}", requestDto.getRoomId());
         log.info(">>>>>>> [GameService - changeDifficulty] gamerInfo id : {}", gamerInfo.get(GamerEnum.ID.key()));
         log.info(">>>>>>> [GameService - changeDifficulty] gamerInfo nickname : {}", gamerInfo.get(GamerEnum.NICK.key()));
 
         // 현재 방 정보 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
-        log.info(">>>>>>> [GameService - changeDifficulty] Repo 에서 찾은 방 번호 : {}", gameRoom.getId());
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
+        log.info(">>>>>>> [GameService - changeDifficulty] 캐시에서 찾은 방 번호 : {}", gameRoom.getId());
 
         // 방장이 아닐경우
-        if (!gameRoom.getHostId().toString().equals(gamerInfo.get(GamerEnum.ID.key()))) {
+        if (!gameRoom.isHost(gamerInfo.get(GamerEnum.ID.key()))) {
             throw new CustomException(StatusMsgCode.HOST_AUTHORIZATION_NEED);
         }
-        log.info(">>>>>>> [GameService - changeDifficulty] Repo 에서 찾은 hostID : {}", gameRoom.getHostId());
+        log.info(">>>>>>> [GameService - changeDifficulty] 캐시에서 찾은 hostID : {}", gameRoom.getHostId());
         log.info(">>>>>>> [GameService - changeDifficulty] 토큰에서 가져온 hostID : {}", gamerInfo.get(GamerEnum.ID.key()));
 
         Map<String, Object> message = new HashMap<>();
@@ -493,7 +483,8 @@ public class GameService {
         // 들어온 요청에 따라 easy 또는 hard 로 변경
         log.info(">>>>>>> [GameService - changeDifficulty] #{}번 방 : {} 로 변경", requestDto.getRoomId(), requestDto.getDifficulty());
         message.put("difficulty", requestDto.getDifficulty());
-        gameRoom.difficultyUpdate(requestDto.getDifficulty());      // gameRoom 의 난이도를 easy 로 변경
+        gameRoomRepository.updateDifficulty(gameRoom.getId(), requestDto.getDifficulty());      // gameRoom 의 난이도를 easy 로 변경
+        roomMetaCache.updateDifficulty(gameRoom.getId(), requestDto.getDifficulty());
         sendingOperations.convertAndSend("/topic/game/difficulty/" + requestDto.getRoomId(), message);
     }
 
@@ -501,10 +492,10 @@ public class GameService {
     // requestDto 필요한 정보
     // token, roomId, round, keyword, keywordIndex, image, webSessionId, isSubmitted
     @Transactional
-    public void getToggleSubmit(GameFlowRequestDto requestDto) throws IOException {
+    public void getToggleSubmit(GameFlowRequestDto requestDto, Principal principal) throws IOException {
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - getToggleSubmit] >>>>>>>>>>>>>>>>>>>>>>>>");
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>> [GameService - getToggleSubmit] gamerInfo nickname : {}", gamerInfo.get(GamerEnum.NICK.key()));
         log.info(">>>>>>> [GameService - getToggleSubmit] 제출이면 false, 아니면 true : {}", requestDto.isSubmitted());
 
@@ -513,171 +504,214 @@ public class GameService {
                 () -> new CustomException(StatusMsgCode.GAME_ROOM_USER_NOT_FOUND)
         );
 
-        // 접속한 유저의 제출 여부
-        GameFlowCount gameFlowCount;
-        // 제출 : gameFlow 가 없다면 -> gameFlow 생성
-        if (!gameFlowRepository.existsByRoomIdAndRoundAndWebSessionId(
+        // 접속한 유저의 제출 여부 전환 (제출 <-> 취소)
+        SubmitTracker.SubmitCount submitCount = submitTracker.toggle(
                 requestDto.getRoomId(),
                 requestDto.getRound(),
-                requestDto.getWebSessionId()
-        )) {
-            log.info(">>>>>>> [GameService - getToggleSubmit] gameFlow 가 없다면 -> gameFlow 생성 if 문 입장");
-            // gameFlow 생성
-            GameFlow gameFlow = buildGameFlow(requestDto, gamerInfo, gameRoomUser);
-            gameFlowRepository.saveAndFlush(gameFlow);
-            // gameFlowCount 업데이트
-            gameFlowCount = updateGameFlowCount(requestDto, !requestDto.isSubmitted());
-        }
-        // 취소 : gameFlow 가 있다면 -> gameFlow 삭제
-        else {
-            log.info(">>>>>>> [GameService - getToggleSubmit] gameFlow 가 있다면 -> gameFlow 삭제 else 문 입장");
-            // gameFlow 삭제
-            GameFlow gameFlow = gameFlowRepository.findByRoomIdAndRoundAndWebSessionId(
-                    requestDto.getRoomId(),
-                    requestDto.getRound(),
-                    requestDto.getWebSessionId()
-            );
-            gameFlowRepository.delete(gameFlow);
-            // gameFlowCount 업데이트
-            gameFlowCount = updateGameFlowCount(requestDto, !requestDto.isSubmitted());
-        }
-        log.info(">>>>>>> [GameService - getToggleSubmit] userFlag : {}",!requestDto.isSubmitted());
-
-        // 라운드 제출 인원수 카운트부
-        int trueCount = gameFlowCount.getGameFlowCount();                                     // 현재 제출 한 인원
-        Long nowUserCount = gameRoomUserRepository.countByGameRoomId(requestDto.getRoomId()); // 해당 방에서 제출할 총 인원
-        log.info(">>>>>>> [GameService - getToggleSubmit] nowUserCount size : {}", nowUserCount);
-        log.info(">>>>>>> [GameService - getToggleSubmit] getGameFlowCount : {}", gameFlowCount.getGameFlowCount());
-        log.info(">>>>>>> [GameService - getToggleSubmit] 중도 이탈 처리된 trueCount : {}", trueCount);
+                gameRoomUser.getUserId()
+        );
+        try {
+            // 제출 : gameFlow 생성
+            if (submitCount.isSubmitted()) {
+                log.info(">>>>>>> [GameService - getToggleSubmit] 제출 -> gameFlow 생성");
+                GameFlow gameFlow = buildGameFlow(requestDto, gamerInfo, gameRoomUser);
+                gameFlowBuffer.save(gameFlow);
+
+                // 그림이 있다면 업로드는 별도 스레드에서 진행하고 제출은 바로 응답
+                if (requestDto.getImage() != null && requestDto.getImage().length() > 0) {
+                    imageUploadService.upload(gameFlow, requestDto.getImage(), gamerInfo.get(GamerEnum.NICK.key()));
+                }
+            }
+            // 취소 : gameFlow 삭제
+            else {
+                log.info(">>>>>>> [GameService - getToggleSubmit] 취소 -> gameFlow 삭제");
+                gameFlowBuffer.delete(
+                        requestDto.getRoomId(),
+                        requestDto.getRound(),
+                        gameRoomUser.getUserId(),
+                        requestDto.getWebSessionId()
+                );
 
-        // 클라이언트로 제출 인원 메시지 전송
-        HashMap<String, Object> message = new HashMap<>();
-        message.put("trueCount", trueCount);
-        message.put("maxTrueCount", nowUserCount);
-        sendingOperations.convertAndSend("/topic/game/true-count/" + requestDto.getRoomId(), message);
-        log.info(">>>>>>> [GameService - getToggleSubmit] 제출 인원 메시지 전송 성공! : {}", message);
+                // 업로드중인 그림이 있다면 반영하지 않고 S3, DB 에서 지운다
+                imageUploadService.cancel(requestDto.getRoomId(), requestDto.getRound(), requestDto.getKeywordIndex());
+            }
+        } catch (RuntimeException | IOException e) {
+            // gameFlow 저장 / 삭제 실패 시 제출 여부 원상복구
+            submitTracker.toggle(requestDto.getRoomId(), requestDto.getRound(), gameRoomUser.getUserId());
+            throw e;
+        }
+        log.info(">>>>>>> [GameService - getToggleSubmit] userFlag : {}", submitCount.isSubmitted());
+        log.info(">>>>>>> [GameService - getToggleSubmit] trueCount : {} / maxTrueCount : {}", submitCount.getTrueCount(), submitCount.getMaxTrueCount());
 
         // 클라이언트로 접속한 유저의 제출 여부 메시지 전송
         Map<String, Object> submitMessage = new HashMap<>();
-        submitMessage.put("isSubmitted", !requestDto.isSubmitted());
+        submitMessage.put("isSubmitted", submitCount.isSubmitted());
         sendingOperations.convertAndSend("/queue/game/is-submitted/" + requestDto.getWebSessionId(), submitMessage);
         log.info(">>>>>>> [GameService - getToggleSubmit] 접속한 유저의 제출 여부 메시지 전송 성공! : {}", submitMessage);
 
-        // 클라이언트로 해당 방의 전체 유저 제출 여부 메시지 전송
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - sendAllSubmitMessage] >>>>>>>>>>>>>>>>>>>>>>>>");
-        GameFlowCount getGameFlowCount = gameFlowCountRepository.findByRoomIdAndRoundForUpdate(
-                requestDto.getRoomId(),
-                requestDto.getRound()
-        );
+        // 이미지 라운드 인지 키워드 라운드 인지 판별 후 destination 부여
+        String destination = requestDto.getImage() == null || requestDto.getImage().length() == 0 ? "word" : "image";
+        sendSubmitCount(requestDto.getRoomId(), requestDto.getRound(), destination, submitCount);
+        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - getToggleSubmit] 완료 >>>>>>>>>>>>>>>>>>>>>>>>");
+    }
+
+    // 제출 인원 메시지 전송, 전체가 제출 했다면 모두에게 라운드 종료 메시지 전송
+    public void sendSubmitCount(Long roomId, int round, String destination, SubmitTracker.SubmitCount submitCount) {
+        // 클라이언트로 제출 인원 메시지 전송
+        HashMap<String, Object> message = new HashMap<>();
+        message.put("trueCount", submitCount.getTrueCount());
+        message.put("maxTrueCount", submitCount.getMaxTrueCount());
+        sendingOperations.convertAndSend("/topic/game/true-count/" + roomId, message);
+        log.info(">>>>>>> [GameService - sendSubmitCount] 제출 인원 메시지 전송 성공! : {}", message);
+
+        if (submitCount.isCompleted()) {
+            // 라운드 종료 후 서버 마감 타이머를 다음 라운드로 넘김
+            submitTracker.lockRound(roomId, round);
+            roomJournal.lock(roomId, round);
+            roundTimer.cancel(roomId, round);
+            if (round < submitTracker.getRoundMaxNum(roomId)) {
+                openRound(roomId, round + 1);
+            }
 
-        log.info(">>>>>>> [GameService - sendAllSubmitMessage] gameFlowCount.getGameFlowCount() : {}", gameFlowCount.getGameFlowCount());
-        if (getGameFlowCount.getGameFlowCount() == nowUserCount) {
-            // 이미지 라운드 인지 키워드 라운드 인지 판별 후 destination 부여
-            String destination = requestDto.getImage() == null || requestDto.getImage().length() == 0 ? "word" : "image";
             // 전체가 제출 했다면 모두에게 메시지 전송
             Map<String, Object> allSubmitMessage = new HashMap<>();
             allSubmitMessage.put("completeSubmit", true);
-            sendingOperations.convertAndSend("/topic/game/submit-" + destination + "/" + requestDto.getRoomId(), allSubmitMessage);
-            log.info(">>>>>>> [GameService - isAllSubmit] 전체 제출 후 메시지 전송 성공! : {}", allSubmitMessage);
+            sendingOperations.convertAndSend("/topic/game/submit-" + destination + "/" + roomId, allSubmitMessage);
+            log.info(">>>>>>> [GameService - sendSubmitCount] 전체 제출 후 메시지 전송 성공! : {}", allSubmitMessage);
         }
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - sendAllSubmitMessage] 완료 >>>>>>>>>>>>>>>>>>>>>>>>");
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - getToggleSubmit] 완료 >>>>>>>>>>>>>>>>>>>>>>>>");
     }
 
-    // 전체 제출 인원 업데이트
-    @Transactional
-    public GameFlowCount updateGameFlowCount(GameFlowRequestDto requestDto, boolean isSubmitted) {
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - setGameFlowCount] >>>>>>>>>>>>>>>>>>>>>>>>");
-        // gameFlowCount 조회
-        GameFlowCount gameFlowCount = gameFlowCountRepository.findByRoomIdAndRoundForUpdate(
-                requestDto.getRoomId(),
-                requestDto.getRound()
-        );
+    // 라운드 시작 : 제출 현황의 라운드 변경 후 서버 마감 타이머 등록, 마감 시각(epoch ms) 반환
+    private long openRound(Long roomId, int round) {
+        if (round > submitTracker.getCurrentRound(roomId)) {
+            roomJournal.round(roomId, round);
+        }
+        submitTracker.openRound(roomId, round);
+        return roundTimer.schedule(roomId, round, () -> closeRound(roomId, round));
+    }
 
-        GameFlowCount newGameFlowCount;
-        // 제출이면 gameFlowListSize 업데이트 +1
-        if (isSubmitted) {
-            newGameFlowCount = gameFlowCount.update(1);
+    // 서버 재시작으로 복구된 방의 진행중인 라운드 마감 타이머 다시 등록
+    public void resumeRound(Long roomId, long timeLimit) {
+        roundTimer.open(roomId, timeLimit);
+        int currentRound = submitTracker.getCurrentRound(roomId);
+        if (!submitTracker.isLocked(roomId, currentRound)) {
+            openRound(roomId, currentRound);
         }
-        // 취소면 gameFlowListSize 업데이트 -1
-        else {
-            newGameFlowCount = gameFlowCount.update(-1);
+    }
+
+    // 라운드 마감 : 시간 안에 제출하지 않은 유저는 "null" 로 대신 제출하고 라운드 종료 메시지 전송
+    public void closeRound(Long roomId, int round) {
+        if (!submitTracker.isOpen(roomId)) {
+            return;
+        }
+        Map<Long, Integer> missingSlots = submitTracker.getMissing(roomId, round);
+        log.info(">>>>>>> [GameService - closeRound] #{}번 방 {}라운드 마감 / 미제출 인원 : {}", roomId, round, missingSlots.size());
+        if (missingSlots.isEmpty()) {
+            return;
+        }
+
+        int roundMaxNum = submitTracker.getRoundMaxNum(roomId);
+        List<GameFlow> missingGameFlows = new ArrayList<>();
+        for (Map.Entry<Long, Integer> missing : missingSlots.entrySet()) {
+            Long userId = missing.getKey();
+            if (!submitTracker.forceSubmit(roomId, round, userId)) {
+                continue;
+            }
+            GameRoomUser gameRoomUser = gameRoomUserRepository.findByUserIdAndGameRoomId(userId, roomId);
+            String webSessionId = gameRoomUser == null || gameRoomUser.getWebSessionId() == null ? "null" : gameRoomUser.getWebSessionId();
+
+            // 라운드마다 키워드 순번이 하나씩 밀린다 (1라운드 : slot + 1)
+            int keywordIndex = (missing.getValue() + round - 1) % roundMaxNum + 1;
+            missingGameFlows.add(GameFlow.builder()
+                    .roomId(roomId)
+                    .round(round)
+                    .keywordIndex(keywordIndex)
+                    .keyword(round % 2 == 0 ? null : "null")
+                    .imagePath(round % 2 == 0 ? "null" : null)
+                    .nickname(gameRoomUser == null ? "null" : gameRoomUser.getNickname())
+                    .webSessionId(webSessionId)
+                    .userImgPath(gameRoomUser == null ? "null" : gameRoomUser.getImgUrl())
+                    .userId(userId)
+                    .isSubmitted(true)
+                    .build());
+
+            // 대신 제출된 유저에게 제출 여부 메시지 전송
+            Map<String, Object> submitMessage = new HashMap<>();
+            submitMessage.put("isSubmitted", true);
+            sendingOperations.convertAndSend("/queue/game/is-submitted/" + webSessionId, submitMessage);
         }
-        return gameFlowCountRepository.saveAndFlush(newGameFlowCount);
+        gameFlowBuffer.saveAll(missingGameFlows);
+
+        // 홀수 라운드는 키워드, 짝수 라운드는 그림 제출 라운드
+        String destination = round % 2 == 0 ? "image" : "word";
+        sendSubmitCount(roomId, round, destination, submitTracker.getCount(roomId, round));
+    }
+
+    // 게임 도중 나간 유저를 제출 현황에서 제외하고 남은 유저에게 제출 인원 전송
+    public void leaveSubmit(Long roomId, Long userId) {
+        if (!submitTracker.isOpen(roomId)) {
+            return;
+        }
+        submitTracker.leave(roomId, userId);
+        roomJournal.exit(roomId, userId);
+
+        // 홀수 라운드는 키워드, 짝수 라운드는 그림 제출 라운드
+        int currentRound = submitTracker.getCurrentRound(roomId);
+        String destination = currentRound % 2 == 0 ? "image" : "word";
+        sendSubmitCount(roomId, currentRound, destination, submitTracker.getCount(roomId, currentRound));
+    }
+
+    // 끝난 라운드의 제출 인원을 GameFlowCount 에 기록 (game.submit.audit=true 일 때만)
+    @Transactional
+    public void auditSubmitCount(Long roomId, int round) {
+        if (!submitAudit) {
+            return;
+        }
+        GameFlowCount gameFlowCount = GameFlowCount.builder()
+                .gameFlowCount(submitTracker.getCount(roomId, round).getTrueCount())
+                .roomId(roomId)
+                .round(round)
+                .build();
+        gameFlowCountRepository.save(gameFlowCount);
     }
 
-    // gameFlow 생성 빌더
+    // gameFlow 생성 빌더 (그림 정보는 업로드가 끝난 후 채워진다)
     @Transactional
     public GameFlow buildGameFlow(GameFlowRequestDto requestDto, Map<String, String> gamerInfo, GameRoomUser gameRoomUser) throws IOException {
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - buildGameFlow] >>>>>>>>>>>>>>>>>>>>>>>>");
 
-        // 이미지가 있다면, 이미지 저장
-        Image image = null;
-        if (requestDto.getImage() != null && requestDto.getImage().length() > 0){
-                image = saveImage(requestDto);
-        }
-        
         return GameFlow.builder()
                 .roomId(requestDto.getRoomId())
                 .round(requestDto.getRound())
                 .keywordIndex(requestDto.getKeywordIndex())
                 .keyword(requestDto.getKeyword())
-                .imagePath(requestDto.getImage() != null && requestDto.getImage().length() > 0 ? image.getPath() : null)
-                .imagePk(requestDto.getImage() != null && requestDto.getImage().length() > 0 ? image.getId() : null)
                 .nickname(gamerInfo.get(GamerEnum.NICK.key()))
                 .webSessionId(requestDto.getWebSessionId())
                 .userImgPath(gameRoomUser.getImgUrl())
+                .userId(gameRoomUser.getUserId())
                 .isSubmitted(!requestDto.isSubmitted())
                 .build();
     }
 
-    // 받아온 그림 S3에 저장 후 imagePath 반환
-    // requestDto 필요한 정보
-    // token, image
-    @Transactional
-    public Image saveImage(GameFlowRequestDto requestDto) {
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - saveImage] >>>>>>>>>>>>>>>>>>>>>>>>");
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - saveImage] 이미지 파일 있니? : {}", !requestDto.getImage().isEmpty());
-        log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - saveImage] image.length() : {}", requestDto.getImage().length());
-        try {
-            HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
-            String nickname = gamerInfo.get(GamerEnum.NICK.key());
-
-            String[] strings = requestDto.getImage().split(",");
-            String base64Image = strings[1];
-            String extension = switch (strings[0]) {
-                case "data:image/jpeg;base64" -> "jpeg";
-                case "data:image/png;base64" -> "png";
-                default -> "jpg";
-            };
-            byte[] imageBytes = javax.xml.bind.DatatypeConverter.parseBase64Binary(base64Image);
-
-            File tempFile = File.createTempFile("image", "." + extension);
-            try (OutputStream outputStream = new FileOutputStream(tempFile)) {
-                outputStream.write(imageBytes);
-            }
-
-            return s3Service.upload(tempFile, dirName, nickname);
-        } catch (IOException ex) {
-            log.error("IOException Error Message : {}",ex.getMessage());
-            throw new CustomException(StatusMsgCode.IMAGE_SAVE_FAILED);
-        }
-    }
-
     // 마지막 라운드 여부 확인
     // requestDto 필요한 정보
     // token, roomId, round, keyword, keywordIndex, webSessionId
     @Transactional
     public void checkLastRound(GameFlowRequestDto requestDto, String destination) {
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - checkLastRound] >>>>>>>>>>>>>>>>>>>>>>>>");
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
 
         // 라운드를 계속 체크해서 라운드가 인원수와 같다면 결과페이지로 이동
         if (requestDto.getRound() == gameRoom.getRoundMaxNum()) {
             log.info(">>>>>>> [GameService - checkLastRound] 마지막 라운드 : {}", requestDto.getRound());
-            sendResultMessage(requestDto.getRoomId());
+
+            // 업로드중인 그림이 끝나면 메모리에 모아둔 GameFlow 를 결과 조회 전에 한번에 저장
+            // 방의 이벤트 루프를 막지 않도록 업로드가 끝난 뒤 다시 방의 작업으로 넣는다
+            Long roomId = requestDto.getRoomId();
+            imageUploadService.whenUploaded(roomId).thenRun(() -> roomEventLoop.execute(roomId, () -> {
+                gameFlowBuffer.flush(roomId);
+                sendResultMessage(roomId);
+            }));
         }
         // 라운드가 인원수와 다르다면 이전 제시어 or 그림 불러오기
         else {
@@ -709,13 +743,11 @@ public class GameService {
         }
 
         // gameRoom 정보 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
 
         // 다음순번인 키워드의 index 계산하고 DB 에서 조회
         int nextKeywordIndex = calculateKeywordIndex(requestDto.getKeywordIndex(), gameRoom.getRoundMaxNum());
-        GameFlow gameFlow = gameFlowRepository.findByRoomIdAndRoundAndKeywordIndex(
+        GameFlow gameFlow = gameFlowBuffer.findByKeywordIndex(
                 requestDto.getRoomId(),
                 requestDto.getRound(),
                 nextKeywordIndex).orElseThrow(
@@ -728,35 +760,38 @@ public class GameService {
         log.info(">>>>>>> [GameService - getPrevious] GameFlow -> 닉네임 : {}", gameFlow.getNickname());
         log.info(">>>>>>> [GameService - getPrevious] GameFlow -> WebSessionId : {}", gameFlow.getWebSessionId());
 
-        // 요청한 유저에게 다음 순번의 키워드 index 와 키워드 메시지 전송
+        // 요청한 유저에게 다음 순번의 키워드 index 와 키워드, 다음 라운드 마감 시각 메시지 전송
         Map<String, Object> message = new HashMap<>();
         message.put("keywordIndex", nextKeywordIndex);
+        message.put("deadline", roundTimer.getDeadline(requestDto.getRoomId()));
 
+        String previousDestination = "/queue/game/before-" + destination + "/" + requestDto.getWebSessionId();
         switch (destination) {
             case "word" -> {
                 message.put("keyword", gameFlow.getKeyword());
                 log.info(">>>>>>> [GameService - getPreviousKeyword] 메시지 : {}", message);
+                sendingOperations.convertAndSend(previousDestination, message);
             }
             case "image" -> {
-                message.put("image", gameFlow.getImagePath());
-                log.info(">>>>>>> [GameService - getPreviousImage] 메시지 : {}", message);
+                // 받을 그림이 업로드중이면 해당 그림의 업로드가 끝난 후 전송
+                imageUploadService.getImagePath(gameFlow).thenAccept(imagePath -> {
+                    message.put("image", imagePath);
+                    log.info(">>>>>>> [GameService - getPreviousImage] 메시지 : {}", message);
+                    sendingOperations.convertAndSend(previousDestination, message);
+                });
             }
             default -> {
                 log.info(">>>>>>> [GameService - getPreviousImage] destination 잘못된 요청입니다.");
+                sendingOperations.convertAndSend(previousDestination, message);
             }
         }
-        sendingOperations.convertAndSend("/queue/game/before-" + destination + "/" + requestDto.getWebSessionId(), message);
 
-        // 방장이 다음 라운드 gameFlowCount 미리 생성
+        // 방장이 다음 라운드 시작
         String hostWebSessionId = gameRoomUserRepository.findByUserId(gameRoom.getHostId()).getWebSessionId();
         if (requestDto.getWebSessionId().equals(hostWebSessionId)) {
-            log.info(">>>>>>> [GameService - getPrevious] 방장이 gameFlowCount 생성");
-            GameFlowCount gameFlowCount = GameFlowCount.builder()
-                    .gameFlowCount(0)
-                    .roomId(requestDto.getRoomId())
-                    .round(requestDto.getRound() + 1)
-                    .build();
-            gameFlowCountRepository.save(gameFlowCount);
+            log.info(">>>>>>> [GameService - getPrevious] 방장이 다음 라운드 시작");
+            openRound(requestDto.getRoomId(), requestDto.getRound() + 1);
+            auditSubmitCount(requestDto.getRoomId(), requestDto.getRound());
         }
     }
 
@@ -777,78 +812,41 @@ public class GameService {
     // requestDto 필요한 정보
     // roomId, webSessionId, token
     @Transactional
-    public void getGameFlow(GameFlowRequestDto requestDto) {
+    public void getGameFlow(GameFlowRequestDto requestDto, Principal principal) {
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - getGameFlow] >>>>>>>>>>>>>>>>>>>>>>>>");
         log.info(">>>>>>> [GameService - getGameFlow] gamerInfo id : {}", gamerInfo.get(GamerEnum.ID.key()));
         log.info(">>>>>>> [GameService - getGameFlow] gamerInfo nickname : {}", gamerInfo.get(GamerEnum.NICK.key()));
 
-        // 게임룸 불러와서 거기서 roundmaxNum 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
-        Integer roundMaxNum = gameRoom.getRoundMaxNum();
-
-        // 반환될 2차원 배열 선언
-        Object[][] resultList = new Object[roundMaxNum][roundMaxNum];
-
-        // 중첩 for 문 돌면서 round, keyword index 에 해당하는 데이터 불러오기
-        for (int i = 1; i <= roundMaxNum; i++) {
-            for (int j = 1; j <= roundMaxNum; j++) {
-                log.info(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>> requestDto.getRoomId() {}", requestDto.getRoomId());
-
-                // 2차원 배열의 요소에 해당하는 리스트 생성 (요소에 들어가는 것 : 닉네임, 키워드 or imagePath, 프로필사진)
-                Map<String, String> gameResultMap = new HashMap<>();
-
-                GameFlow gameFlow = gameFlowRepository.findByRoomIdAndRoundAndKeywordIndex(requestDto.getRoomId(), j, i).orElseThrow(
-                        () -> new CustomException(StatusMsgCode.GAMEFLOW_NOT_FOUND)
-                );
-
-                // 2차원 배열의 요소에 닉네임 저장
-                gameResultMap.put("nickname",gameFlow.getNickname());
-
-                // 2차원 배열의 요소에 키워드 or imagePath저장
-                if (j % 2 == 0) {
-                    // 짝수 round 일 때 -> 이미지 가져오기
-                    gameResultMap.put("imgPath", gameFlow.getImagePath());
-                    gameResultMap.put("imgId", String.valueOf(gameFlow.getImagePk()));
-                } else {
-                    // 홀수 round 일 때 -> 제시어 가져오기
-                    gameResultMap.put("keyword", gameFlow.getKeyword());
-                }
+        // 업로드중인 그림이 끝나면 아직 저장되지 않은 GameFlow 를 먼저 저장하고 결과 전송
+        // 방의 이벤트 루프를 막지 않도록 업로드가 끝난 뒤 다시 방의 작업으로 넣는다
+        Long roomId = requestDto.getRoomId();
+        Long userId = Long.valueOf(gamerInfo.get(GamerEnum.ID.key()));
+        imageUploadService.whenUploaded(roomId).thenRun(() -> roomEventLoop.execute(roomId, () -> {
+            gameFlowBuffer.flush(roomId);
+            sendGameFlow(roomId, userId, requestDto.getWebSessionId());
+        }));
+    }
 
-                // 2차원 배열의 요소에 프로필사진 url 저장
-                gameResultMap.put("userImgPath", gameFlow.getUserImgPath());
+    // 요청한 유저에게 게임 결과 전송
+    public void sendGameFlow(Long roomId, Long userId, String webSessionId) {
+        // 게임룸 불러오기
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(roomId);
 
-                // 닉네임, 키워드 or imagePath, 프로필사진 담긴 리스트를 2차원 배열의 요소로 저장
-                resultList[i - 1][j - 1] = gameResultMap;
-            }
-        }
-        log.info(">>>>>>> [GameService - getGameFlow] 2차원 배열 : {}", Arrays.deepToString(resultList));
+        // 방의 게임 결과 가져오기 (방의 첫 요청에서 한번만 생성)
+        GameResultCache.GameResult gameResult = gameResultCache.get(gameRoom);
 
         // 요청한 유저가 방장인지 아닌지 조회
-        Long userId = Long.valueOf(gamerInfo.get(GamerEnum.ID.key()));
         boolean isHost = gameRoom.getHostId().equals(userId);
 
-        // gamerList 에 프로필사진, 닉네임, 방장여부 저장하기
-        List<GameRoomUser> gameRoomUserList = gameRoomUserRepository.findAllByGameRoomId(gameRoom.getId());
-        List<Map<String, Object>> gamerList = new ArrayList<>();
-        for(GameRoomUser gameRoomUser : gameRoomUserList) {
-            Map<String, Object> gamerMap = new HashMap<>();
-            gamerMap.put("imgUrl", gameRoomUser.getImgUrl());
-            gamerMap.put("nickname", gameRoomUser.getNickname());
-            gamerMap.put("isHost", gameRoom.getHostId().equals(gameRoomUser.getUserId()));
-            gamerList.add(gamerMap);
-        }
-
         // 요청한 유저에게 게임 결과, 본인의 방장 여부, 게임 참여자 리스트 메시지 전송
         Map<String, Object> message = new HashMap<>();
-        message.put("result", resultList);       // 게임 결과 (2차원 배열)
-        message.put("isHost", isHost);           // 방장 유무
-        message.put("gamerList", gamerList);     // 게임 참여자 리스트
+        message.put("result", gameResult.getResultList());      // 게임 결과 (2차원 배열)
+        message.put("isHost", isHost);                          // 방장 유무
+        message.put("gamerList", gameResultCache.getGamerList(gameRoom));    // 게임 참여자 리스트 (요청마다 새로)
 
-        sendingOperations.convertAndSend("/queue/game/result/" + requestDto.getWebSessionId(), message);
+        sendingOperations.convertAndSend("/queue/game/result/" + webSessionId, message);
     }
 
     // 게임 중간에 나갈 시 남은 라운드 결과 null 로 모두 제출
@@ -876,7 +874,7 @@ public class GameService {
             int roundMaxNum = gameRoomUser.getGameRoom().getRoundMaxNum();
 
             // 해당 방에서 만들어진 유저의 gameFlow에서 가장 마지막 round, keywordIndex 구하기, next keywordIndex 구하기
-            List<GameFlow> gameFlows = gameFlowRepository.findAllByWebSessionIdAndRoomId(webSessionId, gameRoomId);
+            List<GameFlow> gameFlows = gameFlowBuffer.findAllByWebSessionId(gameRoomId, webSessionId);
             int maxRound = 0;           // 방에서 나간 유저의 마지막 gameFlow의 round 숫자
             int lastKeywordIndex = 0;   // 방에서 나간 유저의 마지막 gameFlow의 keywordIndex
             int currentKeywordIndex;    // 나간시점에서 저장해야할 첫 gameFLow의 keywordIndex
@@ -887,18 +885,6 @@ public class GameService {
 //            currentKeywordIndex = lastKeywordIndex + 1;
             currentKeywordIndex = lastKeywordIndex + 1 > roundMaxNum ? (lastKeywordIndex + 1 - roundMaxNum) : lastKeywordIndex + 1;
 
-            List<GameFlowCount> gameFlowCountList = gameFlowCountRepository.findAllByRoomId(gameRoomId);
-            int currentRound = gameFlowCountList.size();
-            log.info(">>>>>>> [Gameservice - submitLeftRound] currentRound {}", currentRound);
-            if (maxRound == currentRound) {
-                GameFlowCount gameFlowCount = gameFlowCountRepository.findByRoomIdAndRoundForUpdate(
-                        gameRoomId,
-                        currentRound
-                );
-                log.info(">>>>>>> [Gameservice - submitLeftRound] gameFlowCount.getRound() {}", gameFlowCount.getRound());
-                gameFlowCount.update(-1);
-            }
-
 
             // 첫 라운드에서 방 나가서 유저의 gameFlow가 하나도 없는 경우
             int count = 0;
@@ -921,6 +907,7 @@ public class GameService {
 
 
             // 남은 라운드부터 마지막 라운드까지 null 로 저장하기
+            List<GameFlow> leftGameFlows = new ArrayList<>();
             for (int i = maxRound + 1, j = currentKeywordIndex; i <= roundMaxNum; i++, j++) {
                 j = (j > roundMaxNum) ? j - roundMaxNum : j;
 
@@ -935,6 +922,7 @@ public class GameService {
                             .webSessionId(webSessionId)
                             .imagePath("null")
                             .userImgPath(gameRoomUser.getImgUrl())
+                            .userId(gameRoomUser.getUserId())
                             .isSubmitted(true).build();
                 } else {
                     // round 가 홀수, 즉 키워드 제출 라운드 일 때
@@ -946,27 +934,27 @@ public class GameService {
                             .webSessionId(webSessionId)
                             .keyword("null")
                             .userImgPath(gameRoomUser.getImgUrl())
+                            .userId(gameRoomUser.getUserId())
                             .isSubmitted(true).build();
                 }
-                gameFlowRepository.saveAndFlush(gameFlow);
+                leftGameFlows.add(gameFlow);
             }
+            gameFlowBuffer.saveAll(leftGameFlows);
         }
     }
 
     // 게임 결과창 - 다음 또는 이전 키워드 번호 가져오기
     @Transactional
-    public void getKeywordIndex(GameFlowRequestDto requestDto, String destination) {
+    public void getKeywordIndex(GameFlowRequestDto requestDto, String destination, Principal principal) {
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [GameService - getKeywordIndex] >>>>>>>>>>>>>>>>>>>>>>>>");
         // 유저 검증부
-        HashMap<String, String> gamerInfo = userService.getGamerInfo(requestDto.getToken());
+        HashMap<String, String> gamerInfo = userService.getGamerInfo(principal, requestDto.getToken());
 
         // 요청한 유저가 방장인지 아닌지 조회 아니면 Exception 발생
         Long reqUserId = Long.valueOf(gamerInfo.get(GamerEnum.ID.key()));
 
         // 방 정보 가져오기
-        GameRoom gameRoom = gameRoomRepository.findById(requestDto.getRoomId()).orElseThrow(
-                () -> new CustomException(StatusMsgCode.GAMEROOM_NOT_FOUND)
-        );
+        RoomMetaCache.RoomMeta gameRoom = roomMetaCache.get(requestDto.getRoomId());
 
         // 방장 검증
         if (!gameRoom.getHostId().equals(reqUserId)) {
@@ -976,11 +964,12 @@ public class GameService {
         Map<String, Integer> message = new HashMap<>();
 
         int nowResultCount = destination.equals("next") ? gameRoom.getResultCount() + 1 : gameRoom.getResultCount() - 1;
-        gameRoom.update(nowResultCount);
 
         if (nowResultCount >= gameRoom.getRoundMaxNum() || nowResultCount < 0) {
             throw new CustomException(StatusMsgCode.KEYWORD_INDEX_NOT_FOUND);
         }
+        gameRoomRepository.updateResultCount(gameRoom.getId(), nowResultCount);
+        roomMetaCache.updateResultCount(gameRoom.getId(), nowResultCount);
 
         message.put("keywordIndex", nowResultCount);
         sendingOperations.convertAndSend("/topic/game/" + destination + "-keyword-index/" + requestDto.getRoomId(), message);
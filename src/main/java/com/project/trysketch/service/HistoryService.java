@@ -3,26 +3,43 @@ package com.project.trysketch.service;
 import com.project.trysketch.entity.Achievement;
 import com.project.trysketch.entity.History;
 import com.project.trysketch.entity.User;
-import com.project.trysketch.global.exception.CustomException;
-import com.project.trysketch.global.exception.StatusMsgCode;
 import com.project.trysketch.global.utill.AchievementCode;
+import com.project.trysketch.global.utill.AchievementRule;
+import com.project.trysketch.global.utill.AfterCommit;
 import com.project.trysketch.repository.AchievementRepository;
 import com.project.trysketch.repository.HistoryRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.*;
 
 // 1. 기능   : 유저 활동 내역
 // 2. 작성자 : 김재영
+// 3. 참고사항 : 획득한 업적은 최근에 조회한 유저만 achievement.cache-size 명까지 캐시한다.
+//             업적 저장은 unique 제약 + insertIfAbsent 로 중복 저장을 막고, 실제로 저장된 업적만 새 업적으로 알려준다
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HistoryService {
 
     private final HistoryRepository historyRepository;
     private final AchievementRepository achievementRepository;
 
+    // 유저 id -> 획득한 업적 bit (AchievementCode 순서), 가장 오래 조회하지 않은 유저부터 제거
+    private final Map<Long, Integer> unlockedCache;
+
+    public HistoryService(HistoryRepository historyRepository,
+                          AchievementRepository achievementRepository,
+                          @Value("${achievement.cache-size:10000}") int cacheSize) {
+        this.historyRepository = historyRepository;
+        this.achievementRepository = achievementRepository;
+        this.unlockedCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
     public History createHistory() {
 
         log.info(">>>>>>>>>>>>>>>>>>>>>>>> [HistoryService - createHistory] >>>>>>>>>>>>>>>>>>>>>>>>");
@@ -35,168 +52,96 @@ public class HistoryService {
         return historyRepository.save(history);
     }
 
-    // 게임 플레이 시간에 따른 업적
-    public List<String> getTrophyOfTime(User user) {
-
-        // 해당 유저의 활동이력 검색
-        History history = historyRepository.findByUser(user).orElseThrow(
-                () -> new CustomException(StatusMsgCode.HISTORY_NOT_FOUND)
-        );
-        // 해당 유저가 획득한 업적
-        List<Achievement> achievementList = achievementRepository.findAllByUser(user);
-
-        Map<Integer, Achievement> achievements = new HashMap<>();
-        achievements.put(10, new Achievement(AchievementCode.PLAYTIME_TROPHY_BRONZE, user));
-        achievements.put(20, new Achievement(AchievementCode.PLAYTIME_TROPHY_SILVER, user));
-        achievements.put(30, new Achievement(AchievementCode.PLAYTIME_TROPHY_GOLD, user));
-
-        // 유저로 찾아온 history 의 playtime 을 가져옴
-        Long playtime = history.getPlaytime();
-
-        // 반환용 List
-        List<String> responseList = new ArrayList<>();
-
-        for (Integer baseLine : achievements.keySet()) {
-            // 유저가 지금 얻으려는 업적을 가지고 있는지 검증하고 없다면 저장
-            String newAchievement = verifyUserAchievement(achievements, achievementList, playtime, baseLine);
-            if (newAchievement != null) {
-                responseList.add(newAchievement);
-            }
+    // 활동 이력이 바뀐 유저의 업적 확인, 새로 얻은 업적만 저장 후 이름 반환
+    public List<String> getTrophy(User user, History history) {
+        log.info(">>>>>>>>>>>>>>>>> [HistoryService] - getTrophy");
+        int satisfied = AchievementRule.evaluate(history.getPlaytime(), history.getTrials(), history.getVisits());
+        int newUnlocked = satisfied & ~getUnlocked(user);
+        if (newUnlocked == 0) {
+            return new ArrayList<>();
         }
+
+        List<String> responseList = saveNewAchievement(user, newUnlocked);
+        AfterCommit.run(() -> unlock(user.getId(), newUnlocked));
         return responseList;
     }
 
-    // 게임 판수에 따른 업적
-    public List<String> getTrophyOfTrial(User user) {
-
-        // 해당 유저의 활동이력 검색
-        History history = historyRepository.findByUser(user).orElseThrow(
-                () -> new CustomException(StatusMsgCode.HISTORY_NOT_FOUND)
-        );
-        // 해당 유저가 획득한 업적
-        List<Achievement> achievementList = achievementRepository.findAllByUser(user);
-
-        Map<Integer, Achievement> achievements = new HashMap<>();
-        achievements.put(1, new Achievement(AchievementCode.TRIAL_TROPHY_BRONZE, user));
-        achievements.put(5, new Achievement(AchievementCode.TRIAL_TROPHY_SILVER, user));
-        achievements.put(10, new Achievement(AchievementCode.TRIAL_TROPHY_GOLD, user));
-
-        // 유저로 찾아온 history 의 playtime 을 가져옴
-        Long trials = history.getTrials();
-
-        // 반환용 List
-        List<String> responseList = new ArrayList<>();
-
-        for (Integer baseLine : achievements.keySet()) {
-            // 유저가 지금 얻으려는 업적을 가지고 있는지 검증하고 없다면 저장
-            String newAchievement = verifyUserAchievement(achievements, achievementList, trials, baseLine);
-            if (newAchievement != null) {
-                responseList.add(newAchievement);
+    // 게임 종료 시 참여 유저들의 업적을 한번에 확인 (유저 id -> 새로 얻은 업적 이름)
+    // historyList 는 이번 게임이 반영되기 전 값이므로 이번 게임의 플레이타임(분), 판수를 더해서 확인한다
+    public Map<Long, List<String>> getTrophyOfGame(List<History> historyList, Map<Long, Long> playtimeMap, Long trials) {
+        log.info(">>>>>>>>>>>>>>>>> [HistoryService] - getTrophyOfGame");
+
+        // 유저들의 획득 업적, 캐시에 없는 유저는 한번에 조회
+        Map<Long, Integer> unlockedMap = new HashMap<>();
+        List<Long> missUserIdList = new ArrayList<>();
+        for (History history : historyList) {
+            Long userId = history.getUser().getId();
+            Integer unlocked = unlockedCache.get(userId);
+            if (unlocked == null) {
+                missUserIdList.add(userId);
+                unlockedMap.put(userId, 0);
+            } else {
+                unlockedMap.put(userId, unlocked);
             }
         }
-        return responseList;
-    }
-
-    // 사이트 로그인 횟수에 따른 업적
-    public List<String> getTrophyOfVisit(User user) {
-
-        log.info(">>>>>>>>>>>>>>>>> [HistoryService] - getTrophyOfVisit");
-        // 해당 유저의 활동이력 검색
-        History history = historyRepository.findByUser(user).orElseThrow(
-                () -> new CustomException(StatusMsgCode.HISTORY_NOT_FOUND)
-        );
-        // 해당 유저가 획득한 업적
-        List<Achievement> achievementList = achievementRepository.findAllByUser(user);
-
-        Map<Integer, Achievement> achievements = new HashMap<>();
-        achievements.put(1, new Achievement(AchievementCode.VISIT_TROPHY_BRONZE, user));
-        achievements.put(5, new Achievement(AchievementCode.VISIT_TROPHY_SILVER, user));
-        achievements.put(10, new Achievement(AchievementCode.VISIT_TROPHY_GOLD, user));
-
-        // 유저로 찾아온 history 의 playtime 을 가져옴
-        Long visits = history.getVisits();
-
-        // 반환용 리스트
-        List<String> responseList = new ArrayList<>();
-
-        for (Integer baseLine : achievements.keySet()) {
-            // 유저가 지금 얻으려는 업적을 가지고 있는지 검증하고 없다면 저장
-            String newAchievement = verifyUserAchievement(achievements, achievementList, visits, baseLine);
-            if (newAchievement != null) {
-                responseList.add(newAchievement);
+        if (!missUserIdList.isEmpty()) {
+            for (Achievement achievement : achievementRepository.findAllByUserIdIn(missUserIdList)) {
+                unlockedMap.merge(achievement.getUser().getId(), AchievementRule.bit(achievement.getName()), (a, b) -> a | b);
             }
+            missUserIdList.forEach(userId -> unlock(userId, unlockedMap.get(userId)));
         }
-        return responseList;
-    }
 
-    // 업적 검증부
-    public String verifyUserAchievement(Map<Integer, Achievement> achievements, List<Achievement> currentAchievementList, Long count, Integer baseLine) {
+        Map<Long, List<String>> responseMap = new HashMap<>();
+        Map<Long, Integer> newUnlockedMap = new HashMap<>();
+        for (History history : historyList) {
+            User user = history.getUser();
+            int satisfied = AchievementRule.evaluate(
+                    history.getPlaytime() + playtimeMap.getOrDefault(user.getId(), 0L),
+                    history.getTrials() + trials,
+                    history.getVisits());
+            int newUnlocked = satisfied & ~unlockedMap.get(user.getId());
+            if (newUnlocked != 0) {
+                responseMap.put(user.getId(), saveNewAchievement(user, newUnlocked));
+                newUnlockedMap.put(user.getId(), newUnlocked);
+            }
+        }
 
-        log.info(">>>>>>>>>>>>>>>>> [HistoryService] - verifyUserAchievement");
+        // 새로 얻은 업적이 있을 때만 캐시 반영
+        if (!newUnlockedMap.isEmpty()) {
+            AfterCommit.run(() -> newUnlockedMap.forEach(this::unlock));
+        }
+        return responseMap;
+    }
 
-        // 유저 의 count 가  baseLine 이 기준선을 넘는다면
-        int cnt = 0;
-        if (count >= baseLine) {
-            Achievement achievement = achievements.get(baseLine);
+    // 유저가 획득한 업적 bit, 캐시에 없다면 DB 에서 조회
+    private int getUnlocked(User user) {
+        Integer unlocked = unlockedCache.get(user.getId());
+        if (unlocked != null) {
+            return unlocked;
+        }
+        int loaded = 0;
+        for (Achievement achievement : achievementRepository.findAllByUser(user)) {
+            loaded |= AchievementRule.bit(achievement.getName());
+        }
+        unlock(user.getId(), loaded);
+        return loaded;
+    }
 
-            // 해당 유저가 현재 가지고 있었던 업적 가져오기
-            if (currentAchievementList.isEmpty()) {
-                achievementRepository.save(achievement);
-                log.info(">>>>>>>>>>>>>>>>> achievement 처음 만들었다");
+    // 획득한 업적 bit 를 캐시에 반영 (커밋 후 호출)
+    private void unlock(Long userId, int unlocked) {
+        unlockedCache.merge(userId, unlocked, (a, b) -> a | b);
+    }
 
-                return achievement.getName();
-            } else {
-                for (Achievement currentAchievement : currentAchievementList) {
-
-                    // 지금 얻으려는 업적과 같다면
-                    if (achievement.getName().equals(currentAchievement.getName())) {
-                        cnt++;
-                    }
-                }
-                if (cnt == 0) {
-                    achievementRepository.save(achievement);
-                    log.info(">>>>>>>>>>>>>>>>> achievement 또 하나 만들었다");
-
-                    return achievement.getName();
-                }
+    // 새로 얻은 업적 bit 를 저장하고 이름 반환 (이미 저장되어 있던 업적은 제외)
+    private List<String> saveNewAchievement(User user, int newUnlocked) {
+        List<String> responseList = new ArrayList<>();
+        for (AchievementCode achievementCode : AchievementRule.RULES.keySet()) {
+            if ((newUnlocked & AchievementRule.bit(achievementCode)) != 0
+                    && achievementRepository.insertIfAbsent(achievementCode.getAchievementName(), user.getId()) > 0) {
+                responseList.add(achievementCode.getAchievementName());
             }
         }
-        return null;
+        log.info(">>>>>>>>>>>>>>>>> 유저 {} 새 업적 : {}", user.getId(), responseList);
+        return responseList;
     }
-
-//    public String verifyUserLoginAchievement(Map<Integer, Achievement> achievements, List<Achievement> currentAchievementList, Long count, Integer baseLine) {
-//        log.info(">>>>>>>>>>>>>>>>> [HistoryService] - verifyUserAchievement");
-//
-//        // 유저 의 count 가  baseLine 이 기준선을 넘는다면
-//        int cnt = 0;
-//        if (count > baseLine) {
-//            Achievement achievement = achievements.get(baseLine);
-//
-//            // 해당 유저가 현재 가지고 있었던 업적 가져오기
-//            if (currentAchievementList.isEmpty()) {
-//                achievementRepository.save(achievement);
-//                log.info(">>>>>>>>>>>>>>>>> achievement 처음 만들었다");
-//
-//                return achievement.getName();
-//            } else {
-//                for (Achievement currentAchievement : currentAchievementList) {
-//                    // 지금 얻으려는 업적과 같다면
-//                    if (achievement.getName().equals(currentAchievement.getName())) {
-//                        log.info(">>>>>>>>>>>>>>>>> 얻을려는 achievement : {}", achievement.getName());
-//                        log.info(">>>>>>>>>>>>>>>>> 가지고있는 achievement : {}", currentAchievement.getName());
-//                        cnt++;
-//                    }
-//                }
-//                if (cnt == 0) {
-//                    achievementRepository.save(achievement);
-//                    log.info(">>>>>>>>>>>>>>>>> achievement 또 하나 만들었다");
-//
-//                    return achievement.getName();
-//                }
-//            }
-//        }
-//        return null;
-//    }
-
-
-}
\ No newline at end of file
+}
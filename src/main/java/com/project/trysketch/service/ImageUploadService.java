@@ -0,0 +1,216 @@
+package com.project.trysketch.service;
+
+import com.project.trysketch.entity.GameFlow;
+import com.project.trysketch.entity.Image;
+import com.project.trysketch.global.exception.CustomException;
+import com.project.trysketch.global.exception.StatusMsgCode;
+import com.project.trysketch.global.game.GameFlowBuffer;
+import com.project.trysketch.global.utill.DataUrlImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 1. 기능   : 제출한 그림을 별도 스레드 풀에서 S3 에 업로드
+// 2. 작성자 : 황미경
+// 3. 참고사항 : 제출은 바로 응답하고, 업로드가 끝나면 GameFlow 의 imagePath, imagePk 를 채운다.
+//             다음 유저는 자신이 받을 그림의 업로드만 기다린다 (방, 라운드, 키워드 순번 단위).
+//             같은 자리에 다시 제출하면 이전 업로드는 반영하지 않고 S3, DB 에서 지운다
+@Slf4j
+@Service
+public class ImageUploadService {
+
+    private final AmazonS3Service s3Service;
+    private final GameFlowBuffer gameFlowBuffer;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final long awaitSeconds;
+    private final boolean streaming;
+    private final String dirName = "static";
+
+    // 방 번호 -> ("라운드:키워드 순번" -> 업로드중인 그림)
+    private final Map<Long, Map<String, CompletableFuture<Image>>> pending = new ConcurrentHashMap<>();
+
+    public ImageUploadService(AmazonS3Service s3Service,
+                              GameFlowBuffer gameFlowBuffer,
+                              @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor,
+                              @Value("${game.image.upload.await-seconds:10}") long awaitSeconds,
+                              @Value("${game.image.upload.streaming:true}") boolean streaming) {
+        this.s3Service = s3Service;
+        this.gameFlowBuffer = gameFlowBuffer;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.awaitSeconds = awaitSeconds;
+        this.streaming = streaming;
+    }
+
+    // 그림 업로드 요청, 호출한 쪽 트랜잭션이 커밋된 후 업로드를 시작한다
+    public CompletableFuture<Image> upload(GameFlow gameFlow, String image, String nickname) {
+        CompletableFuture<Image> future = new CompletableFuture<>();
+        String key = key(gameFlow.getRound(), gameFlow.getKeywordIndex());
+        Map<String, CompletableFuture<Image>> roomUploads = pending.computeIfAbsent(gameFlow.getRoomId(), id -> new ConcurrentHashMap<>());
+        roomUploads.put(key, future);
+
+        // 업로드가 끝나면 GameFlow 에 그림 정보 반영 후 대기 목록에서 제거
+        // 그 사이 같은 자리에 새 그림이 제출됐거나 제출이 취소됐으면 (대기 목록에 다른 업로드가 있거나 없음) 이 그림은 지운다
+        future.whenComplete((uploaded, e) -> {
+            if (e == null && roomUploads.get(key) != future) {
+                discard(gameFlow, key, uploaded);
+            } else if (e == null) {
+                gameFlowBuffer.updateImage(gameFlow, uploaded.getPath(), uploaded.getId());
+            } else {
+                log.error(">>>>>>> [ImageUploadService - upload] #{}번 방 {} 그림 업로드 실패 : {}", gameFlow.getRoomId(), key, e.getMessage());
+            }
+            roomUploads.remove(key, future);
+        });
+
+        Runnable task = () -> {
+            try {
+                long start = System.currentTimeMillis();
+                long allocatedBefore = allocatedBytes();
+                future.complete(streaming ? storeStream(image, nickname) : store(image, nickname));
+                log.info(">>>>>>> [ImageUploadService - upload] #{}번 방 {} 그림 업로드 ({}, base64 {}자, {}ms, 할당 {}KB)",
+                        gameFlow.getRoomId(), key, streaming ? "stream" : "temp file", image.length(),
+                        System.currentTimeMillis() - start, (allocatedBytes() - allocatedBefore) / 1024);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(task, future);
+                    } else {
+                        future.completeExceptionally(new CustomException(StatusMsgCode.IMAGE_SAVE_FAILED));
+                    }
+                }
+            });
+        } else {
+            submit(task, future);
+        }
+        return future;
+    }
+
+    // 업로드 스레드 풀에 작업 등록, 대기열이 가득 차면 호출한 스레드(방 이벤트 루프 등)에서 올리지 않고 실패 처리
+    private void submit(Runnable task, CompletableFuture<Image> future) {
+        try {
+            imageUploadExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.error(">>>>>>> [ImageUploadService - submit] 그림 업로드 대기열 초과 : {}", e.getMessage());
+            future.completeExceptionally(new CustomException(StatusMsgCode.IMAGE_SAVE_FAILED));
+        }
+    }
+
+    // 제출 취소 : 대기 목록에서 빼서 업로드가 끝나면 반영하지 않고 지우게 한다
+    public void cancel(Long roomId, int round, int keywordIndex) {
+        Map<String, CompletableFuture<Image>> roomUploads = pending.get(roomId);
+        if (roomUploads != null && roomUploads.remove(key(round, keywordIndex)) != null) {
+            log.info(">>>>>>> [ImageUploadService - cancel] #{}번 방 {} 업로드중인 그림 취소", roomId, key(round, keywordIndex));
+        }
+    }
+
+    // 새 그림 또는 제출 취소로 밀려난 업로드 결과 삭제 (S3, DB)
+    private void discard(GameFlow gameFlow, String key, Image uploaded) {
+        try {
+            s3Service.delete(uploaded, dirName);
+            log.info(">>>>>>> [ImageUploadService - discard] #{}번 방 {} 이전 그림 삭제 (imageId {})", gameFlow.getRoomId(), key, uploaded.getId());
+        } catch (RuntimeException e) {
+            log.error(">>>>>>> [ImageUploadService - discard] #{}번 방 {} 이전 그림 삭제 실패 : {}", gameFlow.getRoomId(), key, e.getMessage());
+        }
+    }
+
+    // 해당 GameFlow 의 그림 경로, 업로드중이면 업로드가 끝난 뒤 반환 (실패 시 "null")
+    public CompletableFuture<String> getImagePath(GameFlow gameFlow) {
+        Map<String, CompletableFuture<Image>> roomUploads = pending.get(gameFlow.getRoomId());
+        CompletableFuture<Image> future = roomUploads == null ? null : roomUploads.get(key(gameFlow.getRound(), gameFlow.getKeywordIndex()));
+        if (future == null) {
+            return CompletableFuture.completedFuture(gameFlow.getImagePath());
+        }
+        return future.handle((uploaded, e) -> e == null ? uploaded.getPath() : "null");
+    }
+
+    // 방에서 업로드중인 그림이 모두 끝나면 완료 (최대 game.image.upload.await-seconds 초, 실패해도 완료)
+    public CompletableFuture<Void> whenUploaded(Long roomId) {
+        Map<String, CompletableFuture<Image>> roomUploads = pending.get(roomId);
+        if (roomUploads == null || roomUploads.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(roomUploads.values().toArray(new CompletableFuture<?>[0]))
+                .orTimeout(awaitSeconds, TimeUnit.SECONDS)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        log.error(">>>>>>> [ImageUploadService - whenUploaded] #{}번 방 그림 업로드 대기 실패 : {}", roomId, e.toString());
+                    }
+                    return null;
+                });
+    }
+
+    // 게임 종료 시 대기 목록 삭제 (진행중인 업로드는 끝까지 진행된다)
+    public void clear(Long roomId) {
+        pending.remove(roomId);
+    }
+
+    // base64 그림을 디코딩하면서 바로 S3 에 저장 (split, byte[], 임시 파일 없음)
+    private Image storeStream(String image, String nickname) {
+        DataUrlImage dataUrlImage = DataUrlImage.of(image);
+        try (InputStream inputStream = dataUrlImage.openStream()) {
+            return s3Service.upload(inputStream, dataUrlImage.getContentLength(), dataUrlImage.getContentType(), dirName, nickname);
+        } catch (IOException ex) {
+            log.error("IOException Error Message : {}", ex.getMessage());
+            throw new CustomException(StatusMsgCode.IMAGE_SAVE_FAILED);
+        }
+    }
+
+    // base64 그림을 파일로 변환 후 S3 에 저장 (game.image.upload.streaming=false, 비교용 기존 방식)
+    private Image store(String image, String nickname) {
+        try {
+            String[] strings = image.split(",");
+            String base64Image = strings[1];
+            String extension = switch (strings[0]) {
+                case "data:image/jpeg;base64" -> "jpeg";
+                case "data:image/png;base64" -> "png";
+                default -> "jpg";
+            };
+            byte[] imageBytes = javax.xml.bind.DatatypeConverter.parseBase64Binary(base64Image);
+
+            File tempFile = File.createTempFile("image", "." + extension);
+            try (OutputStream outputStream = new FileOutputStream(tempFile)) {
+                outputStream.write(imageBytes);
+            }
+
+            return s3Service.upload(tempFile, dirName, nickname);
+        } catch (IOException ex) {
+            log.error("IOException Error Message : {}", ex.getMessage());
+            throw new CustomException(StatusMsgCode.IMAGE_SAVE_FAILED);
+        }
+    }
+
+    // 현재 스레드가 지금까지 할당한 메모리 (지원하지 않는 JVM 이면 0)
+    private static long allocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean) {
+            return sunThreadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static String key(int round, int keywordIndex) {
+        return round + ":" + keywordIndex;
+    }
+}
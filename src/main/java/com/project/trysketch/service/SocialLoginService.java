@@ -60,7 +60,7 @@ public class SocialLoginService {
         History history = socialUser.getHistory().updateVisits(1L);
         historyRepository.save(history);
 
-        List<String> achievementNameList = historyService.getTrophyOfVisit(socialUser);
+        List<String> achievementNameList = historyService.getTrophy(socialUser, history);
 
         // JWT 토큰 반환
         String createToken = jwtUtil.createToken(socialUser.getEmail(), socialUser.getNickname());
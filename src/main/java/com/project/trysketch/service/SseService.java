@@ -2,43 +2,66 @@ package com.project.trysketch.service;
 
 import com.project.trysketch.dto.response.GameRoomResponseDto;
 import com.project.trysketch.entity.GameRoom;
+import com.project.trysketch.global.utill.AfterCommit;
+import com.project.trysketch.global.utill.sse.LobbyIndex;
 import com.project.trysketch.repository.GameRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 
 // 1. 기능   : 방정보 조회 SSE 서비스
 // 2. 작성자 : 황미경
+// 3. 참고사항 : 방 목록은 LobbyIndex 에 두고 바뀐 방만 반영한다. 반영과 SSE 전송은 트랜잭션 커밋 후에 한다
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class SseService {
 
     private final GameRoomRepository gameRoomRepository;
+    private final LobbyIndex lobbyIndex;
 
-    // 방 생성 및 퇴장 시 해당 유저 반영 못하므로 +1, -1 할 수 있도록 매개변수로 받음
-    public List<GameRoomResponseDto> getRooms(int num){
-
-        // gameRoomResponseDto list 생성
+    // 서버 시작 시 DB 의 방 목록을 한번만 읽어 LobbyIndex 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRooms() {
         List<GameRoomResponseDto> gameRoomList = new ArrayList<>();
-
-        // 모든 gameRoom 불러와서 dto에 담기 -> list에 저장
-        List<GameRoom> gameRooms = gameRoomRepository.findAll();
-        for (GameRoom room : gameRooms){
-            GameRoomResponseDto gameRoomResponseDto = GameRoomResponseDto.builder()
-                    .id(room.getId())
-                    .title(room.getTitle())
-                    .hostNick(room.getHostNick())
-                    .GameRoomUserCount(room.getGameRoomUserList().size() + num)
-                    .isPlaying(room.isPlaying())
-                    .createdAt(room.getCreatedAt())
-                    .modifiedAt(room.getModifiedAt())
-                    .randomCode(room.getRandomCode())
-                    .build();
-            gameRoomList.add(gameRoomResponseDto);
+        for (GameRoom room : gameRoomRepository.findAll()) {
+            gameRoomList.add(toDto(room, room.getGameRoomUserList().size()));
         }
-        return gameRoomList;
+        lobbyIndex.load(gameRoomList);
+    }
+
+    // 현재 방 개수 (로비 기준, 방 목록 페이지 수 계산용)
+    public int getRoomCount() {
+        return lobbyIndex.size();
+    }
+
+    // 방 생성, 입장, 퇴장, 게임 시작/종료 시 해당 방만 반영 (커밋 후)
+    // 방 생성 및 퇴장 시 엔티티의 유저 리스트가 갱신되지 않으므로 현재 인원은 매개변수로 받음
+    public void putRoom(GameRoom room, int userCount) {
+        AfterCommit.run(() -> lobbyIndex.put(toDto(room, userCount)));
+    }
+
+    // 방 삭제 시 반영 (커밋 후)
+    public void removeRoom(Long roomId) {
+        AfterCommit.run(() -> lobbyIndex.remove(roomId));
+    }
+
+    private GameRoomResponseDto toDto(GameRoom room, int userCount) {
+        return GameRoomResponseDto.builder()
+                .id(room.getId())
+                .title(room.getTitle())
+                .hostNick(room.getHostNick())
+                .GameRoomUserCount(userCount)
+                .isPlaying(room.isPlaying())
+                .createdAt(room.getCreatedAt())
+                .modifiedAt(room.getModifiedAt())
+                .randomCode(room.getRandomCode())
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,7 @@ import com.project.trysketch.entity.RandomNick;
 import com.project.trysketch.repository.RandomNickRepository;
 import com.project.trysketch.global.exception.CustomException;
 import com.project.trysketch.global.exception.StatusMsgCode;
+import com.project.trysketch.global.jwt.GamerPrincipal;
 import com.project.trysketch.global.jwt.JwtUtil;
 import com.project.trysketch.entity.User;
 import com.project.trysketch.repository.UserRepository;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Service;
 import javax.servlet.http.HttpServletRequest;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.util.Arrays;
 import java.util.HashMap;
 
@@ -133,6 +135,14 @@ public class UserService {
         return thumbImg.getImgUrl();
     }
 
+    // STOMP 메시지의 게이머 정보 : CONNECT 때 검증한 세션 정보가 있으면 사용, 없으면 token 으로 검증
+    public HashMap<String, String> getGamerInfo(Principal principal, String token) {
+        if (principal instanceof GamerPrincipal gamerPrincipal) {
+            return gamerPrincipal.getGamerInfo();
+        }
+        return getGamerInfo(token);
+    }
+
     // 회원 정보 조회
     public HashMap<String, String> getUserInfo(HttpServletRequest request) {
 
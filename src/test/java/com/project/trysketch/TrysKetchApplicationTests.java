@@ -1,8 +1,11 @@
 package com.project.trysketch;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+// 실제 DB / Redis / S3 설정으로 context 를 띄우므로 CI 빌드에서는 제외
+@Tag("integration")
 @SpringBootTest
 class TrysKetchApplicationTests {
 
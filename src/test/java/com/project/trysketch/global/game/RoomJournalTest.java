@@ -0,0 +1,130 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.entity.GameFlow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 1. 기능   : RoomJournal 기록 / 복구 단위 테스트
+// 2. 작성자 : 안은솔
+class RoomJournalTest {
+
+    private static final Long ROOM_ID = 7L;
+
+    private Path dir;
+    private RoomJournal roomJournal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("journal");
+        roomJournal = new RoomJournal(true, dir.toString(), false);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        roomJournal.closeAll();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void replayIgnoresTornLastLine() throws IOException {
+        roomJournal.start(ROOM_ID, 3, 60000L, Arrays.asList(10L, 20L, 30L));
+        roomJournal.submit(gameFlow(1, 10L, "ws-10", 1));
+        roomJournal.submit(gameFlow(1, 20L, "ws-20", 2));
+        roomJournal.closeAll();
+
+        // 기록 도중 서버가 죽어 마지막 줄이 반만 써진 상태
+        Files.write(dir.resolve("room-" + ROOM_ID + ".log"),
+                "{\"type\":\"SUBMIT\",\"round\":1,\"userId\":30,\"webSess".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        RoomJournal.RoomState state = roomJournal.replay(ROOM_ID);
+        assertNotNull(state);
+        assertEquals(3, state.getRoundMaxNum());
+        assertEquals(Arrays.asList(10L, 20L, 30L), state.getUserIds());
+        assertEquals(2, state.getSubmits().size());
+        assertTrue(state.getSubmits().containsKey("1:10"));
+        assertTrue(state.getSubmits().containsKey("1:20"));
+    }
+
+    @Test
+    void replayAppliesCancelExitAndSession() {
+        roomJournal.start(ROOM_ID, 3, 60000L, Arrays.asList(10L, 20L, 30L));
+        roomJournal.submit(gameFlow(1, 10L, "ws-10", 1));
+        roomJournal.submit(gameFlow(1, 20L, "ws-20", 2));
+        roomJournal.cancel(ROOM_ID, 1, 20L);
+        roomJournal.exit(ROOM_ID, 30L);
+        roomJournal.session(ROOM_ID, 10L, "ws-10-new");
+        roomJournal.round(ROOM_ID, 2);
+        roomJournal.lock(ROOM_ID, 1);
+
+        RoomJournal.RoomState state = roomJournal.replay(ROOM_ID);
+        assertNotNull(state);
+        assertEquals(1, state.getSubmits().size());
+        assertTrue(state.getExited().contains(30L));
+        assertEquals(2, state.getCurrentRound());
+        assertEquals(1, state.getLockedRound());
+
+        List<GameFlow> gameFlowList = state.toGameFlows(ROOM_ID);
+        assertEquals(1, gameFlowList.size());
+        assertEquals("ws-10-new", gameFlowList.get(0).getWebSessionId());
+        assertEquals(10L, gameFlowList.get(0).getUserId());
+    }
+
+    @Test
+    void replayReturnsNullWithoutStart() throws IOException {
+        roomJournal.submit(gameFlow(1, 10L, "ws-10", 1));
+        assertNull(roomJournal.replay(ROOM_ID));
+
+        Files.write(dir.resolve("room-" + ROOM_ID + ".log"), "{\"type\":\"SUB".getBytes(StandardCharsets.UTF_8));
+        assertNull(roomJournal.replay(ROOM_ID));
+    }
+
+    @Test
+    void flushedCompactsToFinalState() {
+        roomJournal.start(ROOM_ID, 3, 60000L, Arrays.asList(10L, 20L, 30L));
+        roomJournal.submit(gameFlow(1, 10L, "ws-10", 1));
+        roomJournal.cancel(ROOM_ID, 1, 10L);
+        roomJournal.submit(gameFlow(1, 10L, "ws-10", 1));
+        roomJournal.flushed(ROOM_ID);
+
+        RoomJournal.RoomState state = roomJournal.replay(ROOM_ID);
+        assertNotNull(state);
+        assertTrue(state.isFlushed());
+        assertEquals(1, state.getSubmits().size());
+
+        roomJournal.delete(ROOM_ID);
+        assertFalse(Files.exists(dir.resolve("room-" + ROOM_ID + ".log")));
+    }
+
+    private GameFlow gameFlow(int round, Long userId, String webSessionId, int keywordIndex) {
+        return GameFlow.builder()
+                .roomId(ROOM_ID)
+                .round(round)
+                .keywordIndex(keywordIndex)
+                .keyword("keyword")
+                .nickname("nick" + userId)
+                .webSessionId(webSessionId)
+                .userImgPath("img")
+                .userId(userId)
+                .isSubmitted(true)
+                .build();
+    }
+}
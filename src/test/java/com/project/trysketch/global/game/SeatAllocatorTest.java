@@ -0,0 +1,76 @@
+package com.project.trysketch.global.game;
+
+import org.junit.jupiter.api.Test;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 1. 기능   : SeatAllocator 자리 표시(Seats) 단위 테스트
+// 2. 작성자 : 김재영
+class SeatAllocatorTest {
+
+    @Test
+    void takeFillsSeatsInOrderUntilFull() {
+        SeatAllocator.Seats seats = new SeatAllocator.Seats();
+        for (int i = 0; i < SeatAllocator.MAX_SEATS; i++) {
+            assertEquals(i, seats.take());
+        }
+        assertEquals(-1, seats.take());
+        assertEquals(SeatAllocator.MAX_SEATS, seats.count());
+    }
+
+    @Test
+    void takeReusesFirstEmptySeat() {
+        SeatAllocator.Seats seats = new SeatAllocator.Seats();
+        for (int i = 0; i < SeatAllocator.MAX_SEATS; i++) {
+            seats.take();
+        }
+        seats.give(5);
+        seats.give(2);
+
+        assertEquals(6, seats.count());
+        assertEquals(2, seats.take());
+        assertEquals(5, seats.take());
+        assertEquals(-1, seats.take());
+    }
+
+    @Test
+    void concurrentTakeNeverExceedsMaxSeats() throws InterruptedException {
+        SeatAllocator.Seats seats = new SeatAllocator.Seats();
+        Set<Integer> taken = ConcurrentHashMap.newKeySet();
+        int requests = 100;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            for (int i = 0; i < requests; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        int seat = seats.take();
+                        if (seat >= 0) {
+                            assertTrue(taken.add(seat));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(SeatAllocator.MAX_SEATS, taken.size());
+        assertEquals(SeatAllocator.MAX_SEATS, seats.count());
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.trysketch.global.game;
+
+import com.project.trysketch.global.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 1. 기능   : SubmitTracker 단위 테스트
+// 2. 작성자 : 안은솔
+class SubmitTrackerTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private SubmitTracker submitTracker;
+
+    @BeforeEach
+    void setUp() {
+        submitTracker = new SubmitTracker();
+        submitTracker.open(ROOM_ID, 3, Arrays.asList(10L, 20L, 30L));
+    }
+
+    @Test
+    void toggleSwitchesBetweenSubmitAndCancel() {
+        SubmitTracker.SubmitCount submitted = submitTracker.toggle(ROOM_ID, 1, 10L);
+        assertTrue(submitted.isSubmitted());
+        assertEquals(1, submitted.getTrueCount());
+        assertEquals(3, submitted.getMaxTrueCount());
+
+        SubmitTracker.SubmitCount canceled = submitTracker.toggle(ROOM_ID, 1, 10L);
+        assertFalse(canceled.isSubmitted());
+        assertEquals(0, canceled.getTrueCount());
+    }
+
+    @Test
+    void completedWhenEveryoneSubmitted() {
+        submitTracker.toggle(ROOM_ID, 1, 10L);
+        submitTracker.toggle(ROOM_ID, 1, 20L);
+        assertFalse(submitTracker.getCount(ROOM_ID, 1).isCompleted());
+
+        assertTrue(submitTracker.toggle(ROOM_ID, 1, 30L).isCompleted());
+        assertFalse(submitTracker.getCount(ROOM_ID, 2).isCompleted());
+    }
+
+    @Test
+    void leftUserIsExcludedFromCount() {
+        submitTracker.toggle(ROOM_ID, 1, 10L);
+        submitTracker.toggle(ROOM_ID, 1, 20L);
+        submitTracker.leave(ROOM_ID, 20L);
+
+        SubmitTracker.SubmitCount count = submitTracker.getCount(ROOM_ID, 1);
+        assertEquals(1, count.getTrueCount());
+        assertEquals(2, count.getMaxTrueCount());
+        assertTrue(submitTracker.toggle(ROOM_ID, 1, 30L).isCompleted());
+    }
+
+    @Test
+    void forceSubmitOnlyOnce() {
+        assertTrue(submitTracker.forceSubmit(ROOM_ID, 2, 30L));
+        assertFalse(submitTracker.forceSubmit(ROOM_ID, 2, 30L));
+        assertEquals(1, submitTracker.getCount(ROOM_ID, 2).getTrueCount());
+    }
+
+    @Test
+    void missingReturnsSlotOfUsersNotSubmitted() {
+        submitTracker.toggle(ROOM_ID, 1, 20L);
+        submitTracker.leave(ROOM_ID, 30L);
+
+        Map<Long, Integer> missing = submitTracker.getMissing(ROOM_ID, 1);
+        assertEquals(Map.of(10L, 0), missing);
+    }
+
+    @Test
+    void lockedRoundRejectsToggle() {
+        submitTracker.lockRound(ROOM_ID, 1);
+
+        assertTrue(submitTracker.isLocked(ROOM_ID, 1));
+        assertThrows(CustomException.class, () -> submitTracker.toggle(ROOM_ID, 1, 10L));
+        assertFalse(submitTracker.isLocked(ROOM_ID, 2));
+    }
+
+    @Test
+    void rejectsUnknownUserAndRound() {
+        assertThrows(CustomException.class, () -> submitTracker.toggle(ROOM_ID, 1, 99L));
+        assertThrows(CustomException.class, () -> submitTracker.toggle(ROOM_ID, 4, 10L));
+        assertThrows(CustomException.class, () -> submitTracker.getCount(2L, 1));
+    }
+
+    @Test
+    void currentRoundOnlyMovesForward() {
+        submitTracker.openRound(ROOM_ID, 3);
+        submitTracker.openRound(ROOM_ID, 2);
+
+        assertEquals(3, submitTracker.getCurrentRound(ROOM_ID));
+        assertEquals(3, submitTracker.getRoundMaxNum(ROOM_ID));
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.trysketch.global.rtc;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 1. 기능   : SignalRelay 단위 테스트
+// 2. 작성자 : 안은솔
+class SignalRelayTest {
+
+    @Test
+    void readKeepsObjectValueAsRawJson() throws IOException {
+        SignalRelay relay = SignalRelay.read("{\"type\":\"rtc/offer\",\"token\":\"t\",\"receiver\":\"r1\","
+                + "\"sdp\":{\"type\":\"offer\",\"sdp\":\"v=0\\r\\n\",\"list\":[1,{\"a\":null}]}}");
+
+        assertEquals("rtc/offer", relay.getType());
+        assertEquals("r1", relay.getReceiver());
+        assertEquals("{\"type\":\"offer\",\"sdp\":\"v=0\\r\\n\",\"list\":[1,{\"a\":null}]}", relay.getSdp());
+        assertNull(relay.getCandidate());
+    }
+
+    @Test
+    void readKeepsStringValueWithQuotesAndEscapes() throws IOException {
+        SignalRelay relay = SignalRelay.read("{\"type\":\"rtc/candidate\",\"candidate\":\"a \\\"b\\\" \\u00e9\",\"receiver\":\"r1\"}");
+
+        assertEquals("\"a \\\"b\\\" \\u00e9\"", relay.getCandidate());
+        assertEquals("r1", relay.getReceiver());
+    }
+
+    @Test
+    void readKeepsNumberValue() throws IOException {
+        SignalRelay relay = SignalRelay.read("{\"type\":\"rtc/candidate\",\"candidate\":-12.5e3,\"receiver\":\"r1\"}");
+
+        assertEquals("-12.5e3", relay.getCandidate());
+        assertEquals("r1", relay.getReceiver());
+    }
+
+    @Test
+    void readTreatsNullValueAsMissing() throws IOException {
+        SignalRelay relay = SignalRelay.read("{\"type\":\"rtc/answer\",\"receiver\":\"r1\",\"sdp\":null,\"candidate\":null}");
+
+        assertNull(relay.getSdp());
+        assertNull(relay.getCandidate());
+        assertEquals("{\"type\":\"rtc/answer\",\"sender\":\"s1\",\"receiver\":\"r1\"}", relay.write("s1"));
+    }
+
+    @Test
+    void readReturnsNullWhenPayloadIsNotObject() throws IOException {
+        assertNull(SignalRelay.read("[1,2]"));
+        assertNull(SignalRelay.read("\"rtc/offer\""));
+    }
+
+    @Test
+    void writeAddsSenderAndDropsOtherFields() throws IOException {
+        SignalRelay relay = SignalRelay.read("{\"token\":\"secret\",\"type\":\"rtc/candidate\",\"receiver\":\"r1\","
+                + "\"candidate\":{\"candidate\":\"c\",\"sdpMLineIndex\":0},\"room\":3}");
+
+        assertEquals("{\"type\":\"rtc/candidate\",\"sender\":\"s1\",\"receiver\":\"r1\","
+                + "\"candidate\":{\"candidate\":\"c\",\"sdpMLineIndex\":0}}", relay.write("s1"));
+    }
+}
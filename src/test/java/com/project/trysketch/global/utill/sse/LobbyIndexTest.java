@@ -0,0 +1,93 @@
+package com.project.trysketch.global.utill.sse;
+
+import com.project.trysketch.dto.response.GameRoomResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 1. 기능   : LobbyIndex 재연결(Last-Event-ID) 판단 단위 테스트
+// 2. 작성자 : 황미경
+class LobbyIndexTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private LobbyIndex lobbyIndex;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+        SseEmitters sseEmitters = new SseEmitters(executor, 16, new SimpleMeterRegistry());
+
+        // 변경분은 최근 2건만 보관, 전송 예약 대신 테스트에서 직접 flush
+        lobbyIndex = new LobbyIndex(sseEmitters, 2, 60000L, 60000L, 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lobbyIndex.close();
+        executor.shutdown();
+    }
+
+    @Test
+    void cannotReplayWithoutLastEventId() {
+        assertFalse(lobbyIndex.canReplay(null));
+    }
+
+    @Test
+    void upToDateClientCanReplayNothing() {
+        long version = lobbyIndex.snapshot().getVersion();
+
+        assertTrue(lobbyIndex.canReplay(version));
+        assertFalse(lobbyIndex.canReplay(version - 1));
+    }
+
+    @Test
+    void cannotReplayIdFromFuture() {
+        long version = lobbyIndex.snapshot().getVersion();
+
+        // 재시작 전 서버가 준 id 처럼 현재 version 보다 큰 값
+        assertFalse(lobbyIndex.canReplay(version + 1));
+    }
+
+    @Test
+    void canReplayOnlyWhileMissedEventsAreKept() {
+        long start = lobbyIndex.snapshot().getVersion();
+        for (long roomId = 1; roomId <= 3; roomId++) {
+            lobbyIndex.put(room(roomId));
+            lobbyIndex.flush();
+        }
+        assertEquals(start + 3, lobbyIndex.snapshot().getVersion());
+
+        // 최근 2건 (start + 2, start + 3) 만 남아있다
+        assertFalse(lobbyIndex.canReplay(start));
+        assertTrue(lobbyIndex.canReplay(start + 1));
+        assertTrue(lobbyIndex.canReplay(start + 3));
+    }
+
+    @Test
+    void roomAddedAndRemovedInOneWindowSendsNothing() {
+        long start = lobbyIndex.snapshot().getVersion();
+        lobbyIndex.put(room(1L));
+        lobbyIndex.remove(1L);
+        lobbyIndex.flush();
+
+        assertEquals(start, lobbyIndex.snapshot().getVersion());
+        assertEquals(0, lobbyIndex.size());
+    }
+
+    private GameRoomResponseDto room(Long roomId) {
+        return GameRoomResponseDto.builder()
+                .id(roomId)
+                .title("room" + roomId)
+                .GameRoomUserCount(1)
+                .hostNick("host")
+                .isPlaying(false)
+                .build();
+    }
+}